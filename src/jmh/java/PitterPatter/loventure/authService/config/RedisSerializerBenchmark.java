@@ -0,0 +1,56 @@
+package PitterPatter.loventure.authService.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * RedisTemplate 값 직렬화 (RedisConfig의 GenericJackson2JsonRedisSerializer)
+ * 실제 저장 값인 커플 티켓 수(Integer)를 기준으로, StringRedisTemplate 방식과 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisSerializerBenchmark {
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private StringRedisSerializer stringSerializer;
+    private byte[] jsonTicketCount;
+    private byte[] stringTicketCount;
+
+    @Setup
+    public void setUp() {
+        jsonSerializer = new GenericJackson2JsonRedisSerializer();
+        stringSerializer = new StringRedisSerializer();
+        jsonTicketCount = jsonSerializer.serialize(2);
+        stringTicketCount = stringSerializer.serialize("2");
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonSerializer.serialize(2);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return jsonSerializer.deserialize(jsonTicketCount);
+    }
+
+    @Benchmark
+    public byte[] stringSerialize() {
+        return stringSerializer.serialize(Integer.toString(2));
+    }
+
+    @Benchmark
+    public int stringDeserialize() {
+        return Integer.parseInt(stringSerializer.deserialize(stringTicketCount));
+    }
+}
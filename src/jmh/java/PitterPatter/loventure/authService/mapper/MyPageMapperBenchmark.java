@@ -0,0 +1,87 @@
+package PitterPatter.loventure.authService.mapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import PitterPatter.loventure.authService.dto.response.MyPageResponse;
+import PitterPatter.loventure.authService.repository.AccountStatus;
+import PitterPatter.loventure.authService.repository.CoupleRoom;
+import PitterPatter.loventure.authService.repository.FavoriteFoodCategories;
+import PitterPatter.loventure.authService.repository.Gender;
+import PitterPatter.loventure.authService.repository.ProviderType;
+import PitterPatter.loventure.authService.repository.User;
+
+/**
+ * 마이페이지 응답 조합 (커플 있음 / 없음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MyPageMapperBenchmark {
+
+    private MyPageMapper mapper;
+    private User user;
+    private User partner;
+    private Optional<CoupleRoom> coupleRoom;
+
+    @Setup
+    public void setUp() {
+        mapper = new MyPageMapper();
+        user = user("1234567890", "kakao_3012345678", "bench-user@loventure.us");
+        partner = user("1234567891", "google_1098765432", "bench-partner@loventure.us");
+        coupleRoom = Optional.of(CoupleRoom.builder()
+                .coupleId("0KQ6R1Y3G4Z8B")
+                .inviteCode("A1B2C3")
+                .creatorUserId(user.getProviderId())
+                .partnerUserId(partner.getProviderId())
+                .coupleHomeName("우리집")
+                .datingStartDate(LocalDate.of(2024, 5, 1))
+                .status(CoupleRoom.CoupleStatus.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Benchmark
+    public MyPageResponse withCouple() {
+        return mapper.toMyPageResponse(user, coupleRoom, partner, 2);
+    }
+
+    @Benchmark
+    public MyPageResponse withoutCouple() {
+        return mapper.toMyPageResponse(user, Optional.empty(), null, null);
+    }
+
+    private static User user(String userId, String providerId, String email) {
+        List<FavoriteFoodCategories> foods = new ArrayList<>(List.of(FavoriteFoodCategories.values()).subList(0, 3));
+        return User.builder()
+                .userId(userId)
+                .providerType(ProviderType.KAKAO)
+                .providerId(providerId)
+                .email(email)
+                .name("벤치마크")
+                .nickname("bench")
+                .birthDate(LocalDate.of(1998, 3, 14))
+                .gender(Gender.FEMALE)
+                .alcoholPreference(3)
+                .activeBound(4)
+                .favoriteFoodCategories(foods)
+                .preferredAtmosphere("조용한")
+                .status(AccountStatus.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
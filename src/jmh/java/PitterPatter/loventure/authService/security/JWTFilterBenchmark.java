@@ -0,0 +1,96 @@
+package PitterPatter.loventure.authService.security;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import PitterPatter.loventure.authService.repository.AccountStatus;
+import PitterPatter.loventure.authService.repository.User;
+import PitterPatter.loventure.authService.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JWTFilter 요청 1건 처리 시간 (목 FilterChain, 목 Redis/DB 의존성)
+ * - currentEpoch: epoch가 현재 값인 토큰 → DB 조회 없이 통과
+ * - legacyToken: epoch 클레임이 없는 토큰 → UserRepository 조회 경로
+ * - noToken: Authorization 헤더 없음 (필터 자체 오버헤드)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JWTFilterBenchmark {
+
+    private static final String PROVIDER_ID = "kakao_3012345678";
+
+    private JWTFilter filter;
+    private String currentEpochToken;
+    private String legacyToken;
+
+    @Setup
+    public void setUp() {
+        JWTUtil jwtUtil = new JWTUtil(new JwtKeyRegistry(JwtBenchmark.SECRET, new JwtSigningProperties(null, null, null, null)));
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByProviderId(anyString())).thenReturn(User.builder()
+                .userId("1234567890")
+                .providerId(PROVIDER_ID)
+                .email("bench@loventure.us")
+                .status(AccountStatus.ACTIVE)
+                .build());
+
+        TokenRevocationList revocationList = mock(TokenRevocationList.class);
+        when(revocationList.isRevoked(any())).thenReturn(false);
+
+        TokenEpochService epochService = mock(TokenEpochService.class);
+        when(epochService.state(anyString())).thenReturn(new TokenEpochService.EpochState(3L, 0L));
+
+        filter = new JWTFilter(jwtUtil, userRepository, revocationList, epochService,
+                new JWTFilterMetrics(new SimpleMeterRegistry()));
+        currentEpochToken = jwtUtil.createJwtWithUserIdAndCoupleId(PROVIDER_ID, "1234567890", "0KQ6R1Y3G4Z8B", 3L, 3_600_000L);
+        legacyToken = jwtUtil.createJwtWithUserIdAndCoupleId(PROVIDER_ID, "1234567890", "0KQ6R1Y3G4Z8B", null, 3_600_000L);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse currentEpoch() throws Exception {
+        return run("Bearer " + currentEpochToken);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse legacyToken() throws Exception {
+        return run("Bearer " + legacyToken);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse noToken() throws Exception {
+        return run(null);
+    }
+
+    private MockHttpServletResponse run(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/couples/ticket");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
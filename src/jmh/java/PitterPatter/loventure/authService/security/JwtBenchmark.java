@@ -0,0 +1,92 @@
+package PitterPatter.loventure.authService.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * JWT 발급/검증 처리량 (tokens/sec)
+ * - JWTUtil: 실제 발급/검증 경로 (HS256 전용 서명기 사용)
+ * - jjwt: 같은 클레임을 jjwt 빌더/파서로 직접 처리한 기준값
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtBenchmark {
+
+    static final String SECRET = Base64.getEncoder().encodeToString(
+            "loventure-benchmark-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private JWTUtil jwtUtil;
+    private SecretKey jjwtKey;
+    private JwtParser jjwtParser;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil(new JwtKeyRegistry(SECRET, new JwtSigningProperties(null, null, null, null)));
+        jjwtKey = new SecretKeySpec(Base64.getDecoder().decode(SECRET), "HmacSHA256");
+        jjwtParser = Jwts.parserBuilder().setSigningKey(jjwtKey).build();
+        accessToken = jwtUtil.createJwtWithUserIdAndCoupleId("kakao_3012345678", "1234567890", "0KQ6R1Y3G4Z8B", 3L, 600_000L);
+        refreshToken = jwtUtil.createRefreshToken("kakao_3012345678", UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    }
+
+    @Benchmark
+    public String mintAccessToken() {
+        return jwtUtil.createJwtWithUserIdAndCoupleId("kakao_3012345678", "1234567890", "0KQ6R1Y3G4Z8B", 3L, 600_000L);
+    }
+
+    @Benchmark
+    public String mintRefreshToken() {
+        return jwtUtil.createRefreshToken("kakao_3012345678", "device-id", "family-id");
+    }
+
+    @Benchmark
+    public TokenClaims verifyAccessToken() {
+        return jwtUtil.parse(accessToken);
+    }
+
+    @Benchmark
+    public TokenClaims verifyRefreshToken() {
+        return jwtUtil.parse(refreshToken);
+    }
+
+    @Benchmark
+    public String mintAccessTokenJjwt() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject("kakao_3012345678")
+                .setId(UUID.randomUUID().toString())
+                .claim("userId", "1234567890")
+                .claim("coupleId", "0KQ6R1Y3G4Z8B")
+                .claim("epoch", 3L)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 600_000L))
+                .signWith(jjwtKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims verifyAccessTokenJjwt() {
+        return jjwtParser.parseClaimsJws(accessToken).getBody();
+    }
+}
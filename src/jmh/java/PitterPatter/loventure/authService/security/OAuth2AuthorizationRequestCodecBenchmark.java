@@ -0,0 +1,101 @@
+package PitterPatter.loventure.authService.security;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * OAuth2 인증 요청 쿠키 값 인코딩/디코딩
+ * - codec: 현재 서명된 압축 JSON 코덱 (CookieOAuth2AuthorizationRequestRepository가 사용)
+ * - javaSerialization: 이전 방식 (ObjectOutputStream + Base64URL) 기준값
+ * 쿠키 값 크기는 인코딩 벤치마크의 보조 결과(cookieBytes)로 기록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OAuth2AuthorizationRequestCodecBenchmark {
+
+    private OAuth2AuthorizationRequestCodec codec;
+    private OAuth2AuthorizationRequest authorizationRequest;
+    private String encoded;
+    private String serialized;
+
+    @Setup
+    public void setUp() throws IOException {
+        codec = new OAuth2AuthorizationRequestCodec(new ObjectMapper(), JwtBenchmark.SECRET,
+                Duration.ofMinutes(10), Clock.systemUTC());
+        authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .clientId("0f1e2d3c4b5a69788796a5b4c3d2e1f0")
+                .redirectUri("https://api.loventure.us/login/oauth2/code/kakao")
+                .scopes(Set.of("profile_nickname", "account_email"))
+                .state("dGhpcy1pcy1hLWJlbmNobWFyay1zdGF0ZS12YWx1ZQ==")
+                .attributes(attributes -> attributes.put(OAuth2ParameterNames.REGISTRATION_ID, "kakao"))
+                .build();
+        encoded = codec.encode(authorizationRequest);
+        serialized = javaSerialize(authorizationRequest);
+    }
+
+    /**
+     * 인코딩 결과 크기 (매 호출 같은 값을 덮어써 반복 횟수와 무관하게 쿠키 값 길이가 보고됨)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CookieSize {
+        public long cookieBytes;
+    }
+
+    @Benchmark
+    public String codecEncode(CookieSize size) {
+        String value = codec.encode(authorizationRequest);
+        size.cookieBytes = value.length();
+        return value;
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest codecDecode() {
+        return codec.decode(encoded);
+    }
+
+    @Benchmark
+    public String javaSerializationEncode(CookieSize size) throws IOException {
+        String value = javaSerialize(authorizationRequest);
+        size.cookieBytes = value.length();
+        return value;
+    }
+
+    @Benchmark
+    public Object javaSerializationDecode() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(serialized)))) {
+            return in.readObject();
+        }
+    }
+
+    private static String javaSerialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return Base64.getUrlEncoder().encodeToString(bytes.toByteArray());
+    }
+}
@@ -0,0 +1,32 @@
+package PitterPatter.loventure.authService.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 초대 코드 문자열 생성 (중복 확인 쿼리 제외)
+ * 공유 SecureRandom 경합을 보기 위해 멀티 스레드 측정도 함께 수행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InviteCodeBenchmark {
+
+    @Benchmark
+    public String generate() {
+        return CoupleService.randomInviteCode();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateContended() {
+        return CoupleService.randomInviteCode();
+    }
+}
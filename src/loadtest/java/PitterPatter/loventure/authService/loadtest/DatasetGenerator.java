@@ -0,0 +1,424 @@
+package PitterPatter.loventure.authService.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.github.f4b6a3.tsid.TsidCreator;
+
+import PitterPatter.loventure.authService.repository.CoupleRoom.CoupleStatus;
+import PitterPatter.loventure.authService.repository.DateCostPreference;
+import PitterPatter.loventure.authService.repository.FavoriteFoodCategories;
+import PitterPatter.loventure.authService.repository.Gender;
+import PitterPatter.loventure.authService.repository.JourneyState;
+import PitterPatter.loventure.authService.repository.TodayCondition;
+
+/**
+ * 성능 테스트용 대량 데이터 생성기 (JDBC 배치 insert)
+ * users, userFavoriteFoods, couple_rooms, couple, couple_onboardings를 운영과 비슷한 비율로 채움
+ * 테이블은 앱(ddl-auto 또는 마이그레이션)으로 미리 만들어 두어야 함
+ *
+ * 설정 (Gradle -P 또는 시스템 프로퍼티, ./gradlew generateDataset -Pdataset.users=2000000)
+ * - dataset.jdbc-url / dataset.username / dataset.password : 대상 DB (PostgreSQL은 reWriteBatchedInserts=true 권장)
+ * - dataset.users            : 사용자 수 (기본 1,000,000)
+ * - dataset.rooms            : 커플룸 수 (기본 300,000)
+ * - dataset.status-mix       : 커플룸 상태 비율 (기본 ACTIVE=70,PENDING=20,DEACTIVED=10)
+ * - dataset.onboarding-ratio : 온보딩 기록이 있는 ACTIVE 커플 비율 (기본 0.6)
+ * - dataset.hot-couples      : 핫 커플 수 (기본 100, 온보딩 기록이 많고 부하 테스트에서 집중 조회 대상)
+ * - dataset.hot-onboardings  : 핫 커플당 온보딩 기록 수 (기본 50)
+ * - dataset.skew             : Zipf 지수 (기본 1.1, 음식 카테고리 인기도와 핫 커플 가중치에 사용)
+ * - dataset.seed             : 난수 시드 (같은 시드면 같은 분포)
+ * - dataset.batch-size       : 배치 크기 (기본 5,000)
+ * - dataset.output           : 핫 커플 목록(hot-couples.txt) 저장 디렉토리
+ * - dataset.append           : true면 users가 비어 있지 않아도 추가 (기본 false)
+ */
+public final class DatasetGenerator {
+
+    private static final String PROVIDER_ID_PREFIX = "dataset-";
+    private static final String INVITE_CODE_ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final long INVITE_CODE_SPACE = 2_176_782_336L; // 36^6
+    private static final long INVITE_CODE_MULTIPLIER = 1_000_003L; // 36과 서로소 → 인덱스별로 겹치지 않는 코드
+    private static final String[] ATMOSPHERES = {"조용한", "활기찬", "로맨틱한", "아늑한", "이색적인"};
+    private static final String[] HATE_FOODS = {"오이", "고수", "가지", "민트초코", "회", "곱창", "없음"};
+
+    private final int userCount = Integer.getInteger("dataset.users", 1_000_000);
+    private final int roomCount = Integer.getInteger("dataset.rooms", 300_000);
+    private final String statusMix = System.getProperty("dataset.status-mix", "ACTIVE=70,PENDING=20,DEACTIVED=10");
+    private final double onboardingRatio = Double.parseDouble(System.getProperty("dataset.onboarding-ratio", "0.6"));
+    private final int hotCouples = Integer.getInteger("dataset.hot-couples", 100);
+    private final int hotOnboardings = Integer.getInteger("dataset.hot-onboardings", 50);
+    private final double skew = Double.parseDouble(System.getProperty("dataset.skew", "1.1"));
+    private final int batchSize = Integer.getInteger("dataset.batch-size", 5_000);
+    private final Path output = Path.of(System.getProperty("dataset.output", "build/reports/dataset"));
+    private final boolean append = Boolean.getBoolean("dataset.append");
+
+    private final SplittableRandom random = new SplittableRandom(Long.getLong("dataset.seed", 20241001L));
+    private final double[] foodWeights = zipfCumulative(FavoriteFoodCategories.values().length, skew);
+    private final CoupleStatus[] statusTable = statusTable(statusMix);
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private Batches batches;
+    private long userOffset;
+    private long roomOffset;
+    private final List<String> hotCoupleIds = new ArrayList<>();
+
+    public static void main(String[] args) throws Exception {
+        new DatasetGenerator().run();
+    }
+
+    private void run() throws Exception {
+        String url = System.getProperty("dataset.jdbc-url", "jdbc:postgresql://localhost:5432/loventure?reWriteBatchedInserts=true");
+        String username = System.getProperty("dataset.username", System.getenv("DATASOURCE_USERNAME"));
+        String password = System.getProperty("dataset.password", System.getenv("DATASOURCE_PASSWORD"));
+
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            connection.setAutoCommit(false);
+            userOffset = count(connection, "users");
+            roomOffset = count(connection, "couple_rooms");
+            if (!append && userOffset > 0) {
+                throw new IllegalStateException("users 테이블이 비어 있지 않습니다 (추가하려면 -Pdataset.append=true)");
+            }
+
+            long start = System.nanoTime();
+            batches = new Batches(connection, batchSize);
+            generate();
+            batches.close();
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            System.out.printf("생성 완료 (%.1fs) - users %d, userFavoriteFoods %d, couple_rooms %d, couple %d, couple_onboardings %d%n",
+                    seconds, batches.users.rows, batches.foods.rows, batches.rooms.rows,
+                    batches.couples.rows, batches.onboardings.rows);
+        }
+        writeHotCouples();
+    }
+
+    /**
+     * 커플룸 순서대로 생성자/파트너 사용자를 만들고, 남은 사용자는 싱글로 생성
+     * 앞쪽 ACTIVE 커플부터 핫 커플로 지정
+     */
+    private void generate() throws SQLException {
+        int nextUser = 0;
+        for (int room = 0; room < roomCount && nextUser < userCount; room++) {
+            CoupleStatus status = statusTable[random.nextInt(statusTable.length)];
+            boolean matched = status != CoupleStatus.PENDING && nextUser + 1 < userCount;
+            if (!matched) {
+                status = CoupleStatus.PENDING;
+            }
+            boolean rockCompleted = status == CoupleStatus.ACTIVE && random.nextInt(100) < 60;
+
+            String coupleId = TsidCreator.getTsid().toString();
+            String creatorId = insertUser(nextUser++, journeyStateOf(status, rockCompleted), rockCompleted);
+            String partnerId = matched ? insertUser(nextUser++, journeyStateOf(status, rockCompleted), rockCompleted) : null;
+            insertRoom(room, coupleId, creatorId, partnerId, status, rockCompleted);
+
+            if (matched) {
+                insertCouple(coupleId);
+            }
+            if (status == CoupleStatus.ACTIVE) {
+                boolean hot = hotCoupleIds.size() < hotCouples;
+                if (hot) {
+                    hotCoupleIds.add(coupleId);
+                }
+                int onboardings = hot ? hotOnboardings : (random.nextDouble() < onboardingRatio ? 1 + random.nextInt(3) : 0);
+                for (int i = 0; i < onboardings; i++) {
+                    insertOnboarding(coupleId);
+                }
+            }
+            progress(nextUser);
+        }
+        while (nextUser < userCount) {
+            boolean onboarded = random.nextInt(100) < 70;
+            insertUser(nextUser++, onboarded ? JourneyState.COUPLE_MATCHING_REQUIRED : JourneyState.ONBOARDING_REQUIRED, false, onboarded);
+            progress(nextUser);
+        }
+    }
+
+    private String insertUser(int index, JourneyState journeyState, boolean rockCompleted) throws SQLException {
+        return insertUser(index, journeyState, rockCompleted, true);
+    }
+
+    private String insertUser(int index, JourneyState journeyState, boolean rockCompleted, boolean onboarded) throws SQLException {
+        String userId = TsidCreator.getTsid().toString();
+        LocalDateTime createdAt = now.minusMinutes(random.nextLong(60L * 24 * 365 * 2));
+
+        PreparedStatement users = batches.users.statement;
+        users.setString(1, userId);
+        users.setString(2, random.nextInt(100) < 85 ? "KAKAO" : "GOOGLE");
+        long key = userOffset + index;
+        users.setString(3, PROVIDER_ID_PREFIX + key);
+        users.setString(4, PROVIDER_ID_PREFIX + key + "@dataset.loventure.us");
+        users.setString(5, "사용자" + key);
+        users.setString(6, "닉네임" + key);
+        users.setDate(7, Date.valueOf(LocalDate.of(1980 + random.nextInt(25), 1 + random.nextInt(12), 1 + random.nextInt(28))));
+        users.setString(8, Gender.values()[random.nextInt(2)].name());
+        if (onboarded) {
+            users.setInt(9, 1 + random.nextInt(5));
+            users.setInt(10, 1 + random.nextInt(5));
+            users.setString(11, DateCostPreference.values()[random.nextInt(DateCostPreference.values().length)].name());
+            users.setString(12, ATMOSPHERES[random.nextInt(ATMOSPHERES.length)]);
+        } else {
+            users.setNull(9, Types.INTEGER);
+            users.setNull(10, Types.INTEGER);
+            users.setNull(11, Types.VARCHAR);
+            users.setNull(12, Types.VARCHAR);
+        }
+        users.setString(13, "ACTIVE");
+        users.setTimestamp(14, Timestamp.valueOf(createdAt));
+        users.setTimestamp(15, Timestamp.valueOf(createdAt.plusMinutes(random.nextInt(60 * 24 * 30))));
+        users.setInt(16, 3);
+        users.setBoolean(17, rockCompleted);
+        users.setTimestamp(18, rockCompleted ? Timestamp.valueOf(createdAt.plusDays(1)) : null);
+        users.setString(19, journeyState.name());
+        batches.users.add();
+
+        if (onboarded) {
+            // 카테고리별 인기도는 Zipf 분포, 사용자당 1~3개 (중복 없이)
+            int count = 1 + random.nextInt(3);
+            boolean[] chosen = new boolean[foodWeights.length];
+            for (int i = 0; i < count; i++) {
+                int category = pick(foodWeights);
+                if (chosen[category]) {
+                    continue;
+                }
+                chosen[category] = true;
+                PreparedStatement foods = batches.foods.statement;
+                foods.setString(1, userId);
+                foods.setString(2, FavoriteFoodCategories.values()[category].name());
+                batches.foods.add();
+            }
+        }
+        return userId;
+    }
+
+    private void insertRoom(int index, String coupleId, String creatorId, String partnerId,
+                            CoupleStatus status, boolean rockCompleted) throws SQLException {
+        LocalDateTime createdAt = now.minusMinutes(random.nextLong(60L * 24 * 365));
+        PreparedStatement rooms = batches.rooms.statement;
+        rooms.setString(1, inviteCode(roomOffset + index));
+        rooms.setString(2, coupleId);
+        rooms.setString(3, creatorId);
+        rooms.setString(4, partnerId);
+        rooms.setString(5, "커플홈" + index);
+        rooms.setDate(6, Date.valueOf(createdAt.toLocalDate().minusDays(random.nextInt(1000))));
+        rooms.setString(7, status.name());
+        rooms.setInt(8, random.nextInt(4));
+        rooms.setBoolean(9, rockCompleted);
+        rooms.setTimestamp(10, rockCompleted ? Timestamp.valueOf(createdAt.plusDays(1)) : null);
+        rooms.setInt(11, random.nextInt(3));
+        rooms.setTimestamp(12, Timestamp.valueOf(createdAt));
+        rooms.setTimestamp(13, Timestamp.valueOf(createdAt.plusMinutes(random.nextInt(60 * 24 * 30))));
+        batches.rooms.add();
+    }
+
+    private void insertCouple(String coupleId) throws SQLException {
+        PreparedStatement couples = batches.couples.statement;
+        couples.setString(1, coupleId);
+        couples.setBoolean(2, random.nextBoolean());
+        couples.setTimestamp(3, Timestamp.valueOf(now.minusHours(random.nextInt(24))));
+        couples.setTimestamp(4, Timestamp.valueOf(now.minusDays(random.nextInt(365))));
+        couples.setTimestamp(5, Timestamp.valueOf(now));
+        batches.couples.add();
+    }
+
+    private void insertOnboarding(String coupleId) throws SQLException {
+        LocalDateTime createdAt = now.minusMinutes(random.nextLong(60L * 24 * 180));
+        PreparedStatement onboardings = batches.onboardings.statement;
+        onboardings.setString(1, TsidCreator.getTsid().toString());
+        onboardings.setString(2, coupleId);
+        onboardings.setString(3, TodayCondition.values()[random.nextInt(TodayCondition.values().length)].name());
+        onboardings.setString(4, random.nextBoolean() ? "Y" : "N");
+        onboardings.setString(5, HATE_FOODS[random.nextInt(HATE_FOODS.length)]);
+        onboardings.setTimestamp(6, Timestamp.valueOf(createdAt));
+        onboardings.setTimestamp(7, Timestamp.valueOf(createdAt));
+        batches.onboardings.add();
+    }
+
+    /**
+     * 부하 테스트/벤치마크용 핫 커플 목록 (coupleId와 Zipf 가중치, 탭 구분)
+     */
+    private void writeHotCouples() throws IOException {
+        Files.createDirectories(output);
+        Path file = output.resolve("hot-couples.txt");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            for (int rank = 0; rank < hotCoupleIds.size(); rank++) {
+                writer.printf("%s\t%.6f%n", hotCoupleIds.get(rank), 1.0 / Math.pow(rank + 1, skew));
+            }
+        }
+        System.out.println("핫 커플 목록 저장: " + file.toAbsolutePath() + " (" + hotCoupleIds.size() + "쌍)");
+    }
+
+    private void progress(int usersWritten) {
+        if (usersWritten % 100_000 == 0) {
+            System.out.printf("users %d / %d%n", usersWritten, userCount);
+        }
+    }
+
+    private static JourneyState journeyStateOf(CoupleStatus status, boolean rockCompleted) {
+        return switch (status) {
+            case ACTIVE -> rockCompleted ? JourneyState.COMPLETED : JourneyState.ROCK_REQUIRED;
+            case PENDING, DEACTIVED -> JourneyState.COUPLE_MATCHING_REQUIRED;
+        };
+    }
+
+    // 0 ~ 36^6-1 범위의 순열로 인덱스마다 서로 다른 6자리 초대 코드 생성
+    static String inviteCode(long index) {
+        long value = Math.floorMod(index * INVITE_CODE_MULTIPLIER, INVITE_CODE_SPACE);
+        char[] code = new char[6];
+        for (int i = 5; i >= 0; i--) {
+            code[i] = INVITE_CODE_ALPHABET.charAt((int) (value % 36));
+            value /= 36;
+        }
+        return new String(code);
+    }
+
+    private int pick(double[] cumulative) {
+        double target = random.nextDouble();
+        for (int i = 0; i < cumulative.length; i++) {
+            if (target < cumulative[i]) {
+                return i;
+            }
+        }
+        return cumulative.length - 1;
+    }
+
+    private static double[] zipfCumulative(int size, double exponent) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private static CoupleStatus[] statusTable(String spec) {
+        List<CoupleStatus> table = new ArrayList<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            CoupleStatus status = CoupleStatus.valueOf(parts[0].trim());
+            for (int i = 0, weight = Integer.parseInt(parts[1].trim()); i < weight; i++) {
+                table.add(status);
+            }
+        }
+        if (table.isEmpty()) {
+            throw new IllegalArgumentException("dataset.status-mix가 비어 있습니다: " + spec);
+        }
+        return table.toArray(CoupleStatus[]::new);
+    }
+
+    // 추가 생성 시 providerId/초대 코드가 기존 행과 겹치지 않도록 오프셋으로 사용
+    private static long count(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * 테이블별 배치 (외래 키 순서를 지키도록 users → couple_rooms → couple → 나머지 순으로 flush)
+     */
+    private static final class Batches implements AutoCloseable {
+
+        private final Connection connection;
+        private final Batch users;
+        private final Batch foods;
+        private final Batch rooms;
+        private final Batch couples;
+        private final Batch onboardings;
+
+        Batches(Connection connection, int batchSize) throws SQLException {
+            this.connection = connection;
+            this.users = new Batch(this, connection.prepareStatement("""
+                    INSERT INTO users (user_id, provider_type, provider_id, email, name, nickname, birth_date, gender,
+                        alcohol_preference, active_bound, date_cost_preference, preferred_atmosphere, status,
+                        created_at, updated_at, reroll_count, is_rock_completed, rock_completed_at, journey_state)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                    """), batchSize);
+            this.foods = new Batch(this, connection.prepareStatement(
+                    "INSERT INTO user_favorite_foods (user_id, favorite_food_categories) VALUES (?, ?)"), batchSize);
+            this.rooms = new Batch(this, connection.prepareStatement("""
+                    INSERT INTO couple_rooms (invite_code, couple_id, creator_user_id, partner_user_id, couple_home_name,
+                        dating_start_date, status, reroll_count, is_rock_completed, rock_completed_at, ticket_count,
+                        created_at, updated_at)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                    """), batchSize);
+            this.couples = new Batch(this, connection.prepareStatement("""
+                    INSERT INTO couple (couple_id, is_today_ticket, last_synced_at, created_at, updated_at)
+                    VALUES (?, ?, ?, ?, ?)
+                    """), batchSize);
+            this.onboardings = new Batch(this, connection.prepareStatement("""
+                    INSERT INTO couple_onboardings (onboarding_id, couple_id, today_condition, drinking, hate_food,
+                        created_at, updated_at)
+                    VALUES (?, ?, ?, ?, ?, ?, ?)
+                    """), batchSize);
+        }
+
+        void flushAll() throws SQLException {
+            users.flush();
+            foods.flush();
+            rooms.flush();
+            couples.flush();
+            onboardings.flush();
+            connection.commit();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            flushAll();
+            for (Batch batch : List.of(users, foods, rooms, couples, onboardings)) {
+                batch.statement.close();
+            }
+        }
+    }
+
+    private static final class Batch {
+
+        private final Batches owner;
+        private final PreparedStatement statement;
+        private final int batchSize;
+        private int pending;
+        private long rows;
+
+        Batch(Batches owner, PreparedStatement statement, int batchSize) {
+            this.owner = owner;
+            this.statement = statement;
+            this.batchSize = batchSize;
+        }
+
+        // 한 테이블이 가득 차면 전체를 flush 후 커밋 (트랜잭션 크기 제한)
+        void add() throws SQLException {
+            statement.addBatch();
+            pending++;
+            rows++;
+            if (pending >= batchSize) {
+                owner.flushAll();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package PitterPatter.loventure.authService.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트 하나의 응답 시간 HDR 히스토그램과 상태 코드별 건수
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final String name;
+    private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void record(long nanos, int status, boolean expected) {
+        histogram.recordValue(Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (!expected) {
+            errors.increment();
+        }
+    }
+
+    void recordFailure(long nanos) {
+        record(nanos, -1, false);
+    }
+
+    long count() {
+        return histogram.getTotalCount();
+    }
+
+    // 기록된 상태 코드 (IOException 등 응답 없는 실패는 -1)
+    Set<Integer> statuses() {
+        return Set.copyOf(statusCounts.keySet());
+    }
+
+    void reset() {
+        histogram.reset();
+        statusCounts.clear();
+        errors.reset();
+    }
+
+    String summaryLine(double seconds) {
+        return String.format("%-22s %9d %10.1f %8.2f %8.2f %8.2f %8.2f %9.2f %7d  %s",
+                name, count(), count() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                errors.sum(),
+                statusCounts);
+    }
+
+    Map<String, Object> summary(double seconds) {
+        return Map.of(
+                "count", count(),
+                "throughputPerSec", count() / seconds,
+                "p50Ms", millis(histogram.getValueAtPercentile(50)),
+                "p90Ms", millis(histogram.getValueAtPercentile(90)),
+                "p99Ms", millis(histogram.getValueAtPercentile(99)),
+                "p999Ms", millis(histogram.getValueAtPercentile(99.9)),
+                "maxMs", millis(histogram.getMaxValue()),
+                "errors", errors.sum(),
+                "statusCounts", Map.copyOf(statusCounts.entrySet().stream()
+                        .collect(java.util.stream.Collectors.toMap(e -> String.valueOf(e.getKey()), e -> e.getValue().sum()))));
+    }
+
+    // HdrHistogram 백분위 분포 파일 (ms 단위, HistogramPlotter 등으로 비교 가능)
+    void writePercentileDistribution(Path directory) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name.replace('/', '_') + ".hgrm")))) {
+            histogram.outputPercentileDistribution(out, 1_000_000.0);
+        }
+    }
+
+    static String header() {
+        return String.format("%-22s %9s %10s %8s %8s %8s %8s %9s %7s  %s",
+                "endpoint", "count", "req/s", "p50ms", "p90ms", "p99ms", "p99.9ms", "maxms", "errors", "status");
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
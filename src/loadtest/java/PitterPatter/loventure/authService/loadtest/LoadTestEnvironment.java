@@ -0,0 +1,120 @@
+package PitterPatter.loventure.authService.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import PitterPatter.loventure.AuthApplication;
+import redis.embedded.RedisServer;
+
+/**
+ * H2(PostgreSQL 모드) + 임베디드 Redis + 카카오 OAuth2 제공자 대역으로 띄운 앱
+ * 부하 테스트와 쿼리 수 점검이 같은 설정으로 앱을 띄우도록 공유
+ */
+final class LoadTestEnvironment implements AutoCloseable {
+
+    private final RedisServer redis;
+    private final StubOAuthProvider provider;
+    private final ConfigurableApplicationContext context;
+    private final URI app;
+    private final HttpClient http;
+
+    /**
+     * @param poolSize Hikari 최대 커넥션 수
+     * @param extraArgs 추가 설정 (--name=value, 기본 설정보다 우선)
+     */
+    LoadTestEnvironment(int poolSize, String... extraArgs) throws Exception {
+        // 기본은 빈 포트 (동시 실행, 로컬 Redis와 충돌 방지), -Dloadtest.redis.port로 고정 가능
+        int redisPort = Integer.getInteger("loadtest.redis.port", 0);
+        if (redisPort == 0) {
+            redisPort = freePort();
+        }
+        redis = new RedisServer(redisPort);
+        redis.start();
+        try {
+            provider = new StubOAuthProvider();
+            context = new SpringApplicationBuilder(AuthApplication.class)
+                    .run(arguments(provider.baseUrl(), redisPort, poolSize, extraArgs));
+        } catch (Exception | Error e) {
+            redis.stop();
+            throw e;
+        }
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        app = URI.create("http://127.0.0.1:" + port);
+        http = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    VirtualUser newUser(int index) {
+        return new VirtualUser(index, http, app);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // 명령행 인자는 config server / prod 프로파일 설정보다 우선
+    private static String[] arguments(String providerBaseUrl, int redisPort, int poolSize, String... extraArgs) {
+        String registration = "--spring.security.oauth2.client.registration.kakao.";
+        String kakao = "--spring.security.oauth2.client.provider.kakao.";
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=loadtest",
+                "--spring.cloud.config.enabled=false",
+                "--spring.cloud.config.import-check.enabled=false",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loventure;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.open-in-view=false",
+                "--spring.data.redis.host=127.0.0.1",
+                "--spring.data.redis.port=" + redisPort,
+                "--spring.jwt.secret=loadtest-secret-loadtest-secret-loadtest-secret-0123456789",
+                "--spring.jwt.redirect.base=http://frontend.loadtest/auth",
+                "--spring.jwt.redirect.onboarding=http://frontend.loadtest/onboarding",
+                "--spring.jwt.redirect.coupleroom=http://frontend.loadtest/coupleroom",
+                "--spring.jwt.redirect.home=http://frontend.loadtest/home",
+                "--territory.service.url=" + providerBaseUrl,
+                registration + "client-id=loadtest",
+                registration + "client-secret=loadtest",
+                registration + "client-authentication-method=client_secret_post",
+                registration + "authorization-grant-type=authorization_code",
+                registration + "redirect-uri={baseUrl}/login/oauth2/code/{registrationId}",
+                registration + "scope=profile_nickname,account_email",
+                kakao + "authorization-uri=" + providerBaseUrl + "/oauth/authorize",
+                kakao + "token-uri=" + providerBaseUrl + "/oauth/token",
+                kakao + "user-info-uri=" + providerBaseUrl + "/v2/user/me",
+                kakao + "user-name-attribute=id",
+                "--logging.level.root=WARN"));
+        args.addAll(List.of(extraArgs));
+        return args.toArray(String[]::new);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            context.close();
+            provider.close();
+        } finally {
+            redis.stop();
+        }
+    }
+}
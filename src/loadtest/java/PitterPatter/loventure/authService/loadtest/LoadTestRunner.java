@@ -0,0 +1,216 @@
+package PitterPatter.loventure.authService.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 인프로세스 부하 테스트 실행기
+ * - H2(PostgreSQL 모드) + 임베디드 Redis + 카카오 OAuth2 제공자 대역으로 앱을 띄움 (LoadTestEnvironment)
+ * - 준비 단계: 사용자 로그인 후 두 명씩 커플 매칭
+ * - 측정 단계: 엔드포인트 혼합 비율대로 요청, 엔드포인트별 처리량과 HDR 지연 히스토그램 출력
+ *
+ * 설정 (Gradle -P 또는 시스템 프로퍼티, ./gradlew loadTest -Ploadtest.users=500)
+ * - loadtest.users    : 가상 사용자 수 (짝수, 기본 200)
+ * - loadtest.threads  : 워커 스레드 수 (기본 32, 워커마다 사용자를 나눠 가짐)
+ * - loadtest.warmup   : 워밍업 시간 (기본 PT10S, 결과에서 제외)
+ * - loadtest.duration : 측정 시간 (기본 PT60S)
+ * - loadtest.mix      : 요청 비율 (기본 callback=2,refresh=8,mypage=40,ticket=35,consume=15)
+ * - loadtest.output   : 결과 디렉토리 (기본 build/reports/loadtest)
+ */
+public final class LoadTestRunner {
+
+    private static final String DEFAULT_MIX = "callback=2,refresh=8,mypage=40,ticket=35,consume=15";
+
+    private final int userCount = Integer.getInteger("loadtest.users", 200) & ~1;
+    private final int threadCount = Integer.getInteger("loadtest.threads", 32);
+    private final Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+    private final Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+    private final Path output = Path.of(System.getProperty("loadtest.output", "build/reports/loadtest"));
+    private final Mix mix = Mix.parse(System.getProperty("loadtest.mix", DEFAULT_MIX));
+
+    private final Map<Operation, EndpointStats> stats = new LinkedHashMap<>();
+    private final EndpointStats authorizeStats = new EndpointStats("oauth/authorize");
+
+    private LoadTestRunner() {
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation.endpoint));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner().run();
+    }
+
+    private void run() throws Exception {
+        try (LoadTestEnvironment environment = new LoadTestEnvironment(Math.max(10, threadCount))) {
+            List<VirtualUser> users = prepare(environment);
+            System.out.printf("준비 완료 - 사용자 %d명, 커플 %d쌍, heap(after GC) %s%n",
+                    users.size(), users.size() / 2, heapAfterGc());
+
+            drive(users, warmup);
+            stats.values().forEach(EndpointStats::reset);
+            long start = System.nanoTime();
+            drive(users, duration);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            report(seconds);
+        }
+    }
+
+    // 사용자 로그인 후 (2k, 2k+1)을 커플로 매칭
+    private List<VirtualUser> prepare(LoadTestEnvironment environment) throws Exception {
+        List<VirtualUser> users = new ArrayList<>(userCount);
+        EndpointStats setup = new EndpointStats("setup");
+        for (int i = 0; i < userCount; i++) {
+            VirtualUser user = environment.newUser(i);
+            user.login(setup, setup);
+            users.add(user);
+        }
+        for (int i = 0; i < userCount; i += 2) {
+            VirtualUser creator = users.get(i);
+            users.get(i + 1).match(creator.createRoom(), creator, setup);
+        }
+        return users;
+    }
+
+    /**
+     * 워커마다 사용자 i % threadCount == worker 만 사용 (refresh 회전이 같은 기기에서 겹치지 않도록)
+     */
+    private void drive(List<VirtualUser> users, Duration length) throws Exception {
+        long deadline = System.nanoTime() + length.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>(threadCount);
+            for (int worker = 0; worker < threadCount; worker++) {
+                List<VirtualUser> owned = new ArrayList<>();
+                for (int i = worker; i < users.size(); i += threadCount) {
+                    owned.add(users.get(i));
+                }
+                if (!owned.isEmpty()) {
+                    futures.add(workers.submit(() -> work(owned, deadline)));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void work(List<VirtualUser> owned, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            VirtualUser user = owned.get(random.nextInt(owned.size()));
+            Operation operation = mix.pick(random);
+            try {
+                switch (operation) {
+                    case CALLBACK -> user.login(authorizeStats, stats.get(operation));
+                    case REFRESH -> user.refresh(stats.get(operation));
+                    case MYPAGE -> user.myPage(stats.get(operation));
+                    case TICKET -> user.ticket(stats.get(operation));
+                    case CONSUME -> user.consume(stats.get(operation));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 실패는 EndpointStats에 기록됨, 다음 요청 계속
+            }
+        }
+    }
+
+    private void report(double seconds) throws Exception {
+        long total = stats.values().stream().mapToLong(EndpointStats::count).sum();
+        System.out.printf("%n측정 %.1fs, 스레드 %d, 사용자 %d, 전체 %d건 (%.1f req/s)%n",
+                seconds, threadCount, userCount, total, total / seconds);
+        System.out.println(EndpointStats.header());
+        for (EndpointStats endpoint : stats.values()) {
+            System.out.println(endpoint.summaryLine(seconds));
+        }
+        String heap = heapAfterGc();
+        System.out.println("heap(after GC): " + heap);
+
+        Files.createDirectories(output);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("seconds", seconds);
+        summary.put("threads", threadCount);
+        summary.put("users", userCount);
+        summary.put("mix", mix.toString());
+        summary.put("heapAfterGc", heap);
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (EndpointStats endpoint : stats.values()) {
+            endpoints.put(endpoint.name(), endpoint.summary(seconds));
+            endpoint.writePercentileDistribution(output);
+        }
+        summary.put("endpoints", endpoints);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.resolve("summary.json").toFile(), summary);
+        System.out.println("결과 저장: " + output.toAbsolutePath());
+    }
+
+    private static String heapAfterGc() {
+        System.gc();
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        return (heap.getUsed() / (1024 * 1024)) + "MB / " + (heap.getMax() / (1024 * 1024)) + "MB";
+    }
+
+    private enum Operation {
+        CALLBACK("oauth/callback"),
+        REFRESH("auth/refresh"),
+        MYPAGE("auth/mypage"),
+        TICKET("couples/ticket"),
+        CONSUME("couples/ticket/consume");
+
+        private final String endpoint;
+
+        Operation(String endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+
+    /**
+     * 가중치 기반 요청 선택 (예: "callback=2,refresh=8,mypage=40")
+     */
+    private record Mix(Operation[] table, String spec) {
+
+        static Mix parse(String spec) {
+            List<Operation> table = new ArrayList<>();
+            for (String entry : spec.split(",")) {
+                String[] parts = entry.trim().split("=");
+                Operation operation = Operation.valueOf(parts[0].trim().toUpperCase());
+                int weight = Integer.parseInt(parts[1].trim());
+                for (int i = 0; i < weight; i++) {
+                    table.add(operation);
+                }
+            }
+            if (table.isEmpty()) {
+                throw new IllegalArgumentException("loadtest.mix가 비어 있습니다: " + spec);
+            }
+            return new Mix(table.toArray(Operation[]::new), spec);
+        }
+
+        Operation pick(ThreadLocalRandom random) {
+            return table[random.nextInt(table.length)];
+        }
+
+        @Override
+        public String toString() {
+            return spec;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package PitterPatter.loventure.authService.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 주요 흐름의 SQL 문 수 회귀 점검 (Hibernate Statistics 기반, ./gradlew queryBudgetCheck)
+ * 새 DB에서 흐름을 정해진 순서로 한 번씩 실행해 prepared statement 수를 query-budgets.properties 값과 정확히 비교
+ * - 값이 다르면 실패 (N+1, 불필요한 왕복 추가 또는 의도한 감소 모두 예산 갱신 필요)
+ * - 흐름이 2xx가 아닌 응답(로그인은 302 리다이렉트)을 받거나 예외가 나면 실패 (실패한 요청의 문 수로 통과하지 않도록)
+ * - 예산 파일에 없는 흐름, 측정되지 않은 예산 항목도 실패 (예산 누락으로 점검이 통과되지 않도록)
+ * - -PqueryBudget.update=true 로 실행할 때만 측정값으로 예산 파일을 다시 씀 (check에서는 파일을 수정하지 않음)
+ */
+public final class QueryBudgetCheck {
+
+    private static final String HEADER = """
+            # 흐름별 SQL 문 수 (QueryBudgetCheck, ./gradlew queryBudgetCheck)
+            # 의도한 변경으로 수가 바뀌면 ./gradlew queryBudgetCheck -PqueryBudget.update=true 로 갱신 후 함께 커밋
+            """;
+
+    private final Path budgetFile = Path.of(System.getProperty("queryBudget.file", "src/loadtest/resources/query-budgets.properties"));
+    private final boolean update = Boolean.getBoolean("queryBudget.update");
+
+    private final List<String> failures = new ArrayList<>();
+
+    private Statistics statistics;
+    private int nextUser;
+
+    public static void main(String[] args) throws Exception {
+        boolean passed;
+        try (LoadTestEnvironment environment = new LoadTestEnvironment(10,
+                "--spring.jpa.properties.hibernate.generate_statistics=true")) {
+            passed = new QueryBudgetCheck().run(environment);
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private boolean run(LoadTestEnvironment environment) throws Exception {
+        statistics = environment.context().getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        Map<String, Long> measured = measure(environment);
+
+        if (!failures.isEmpty()) {
+            System.err.println("흐름 실행에 실패해 SQL 문 수를 판단할 수 없습니다:");
+            failures.forEach(failure -> System.err.println("  " + failure));
+            return false;
+        }
+
+        if (update) {
+            measured.forEach((flow, count) -> System.out.println(String.format("%-40s %3d  (기록)", flow, count)));
+            save(new TreeMap<>(measured));
+            System.out.println("예산 파일 갱신: " + budgetFile.toAbsolutePath());
+            return true;
+        }
+
+        Map<String, Long> budgets = load();
+        for (Map.Entry<String, Long> entry : measured.entrySet()) {
+            Long budget = budgets.get(entry.getKey());
+            String line = String.format("%-40s %3d", entry.getKey(), entry.getValue());
+            if (budget == null) {
+                failures.add(entry.getKey() + ": 예산 없음, 실제 " + entry.getValue());
+                System.out.println(line + "  (예산 없음)  FAIL");
+            } else if (!budget.equals(entry.getValue())) {
+                failures.add(entry.getKey() + ": 예산 " + budget + ", 실제 " + entry.getValue());
+                System.out.println(line + "  (예산 " + budget + ")  FAIL");
+            } else {
+                System.out.println(line + "  OK");
+            }
+        }
+        for (String flow : budgets.keySet()) {
+            if (!measured.containsKey(flow)) {
+                failures.add(flow + ": 측정되지 않은 예산 항목");
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            System.err.println("SQL 문 수가 예산과 다릅니다 (" + budgetFile + "):");
+            failures.forEach(failure -> System.err.println("  " + failure));
+            System.err.println("의도한 변경이면 -PqueryBudget.update=true 로 갱신 후 예산 파일을 함께 커밋하세요");
+        }
+        return failures.isEmpty();
+    }
+
+    /**
+     * 흐름별 SQL 문 수 측정 (각 흐름은 이전 흐름이 만든 상태 위에서 실행)
+     */
+    private Map<String, Long> measure(LoadTestEnvironment environment) throws Exception {
+        Map<String, Long> measured = new LinkedHashMap<>();
+
+        // OAuth2 콜백: 신규 가입 (CustomOAuth2UserService upsert + 로그인 완료)
+        VirtualUser creator = environment.newUser(nextUser++);
+        count(measured, "oauth2.login.new-user", true, stats -> creator.login(stats, stats));
+        VirtualUser partner = environment.newUser(nextUser++);
+        prepare("partner login", true, stats -> partner.login(stats, stats));
+
+        // OAuth2 콜백: 기존 사용자 재로그인
+        count(measured, "oauth2.login.returning-user", true, stats -> creator.login(stats, stats));
+
+        String inviteCode = creator.createRoom();
+        count(measured, "couple.match", false, stats -> partner.match(inviteCode, creator, stats));
+
+        // 매칭 후 첫 요청에서 토큰 재발급이 일어나므로 워밍업 후 측정
+        prepare("creator warm-up", false, creator::myPage);
+        prepare("partner warm-up", false, partner::myPage);
+
+        // JWTFilter만 거치는 경로 (favicon 204, 컨트롤러/서비스 쿼리 없음)
+        count(measured, "jwt.filter", false, stats -> creator.probe("/api/auth/favicon.ico", stats));
+        count(measured, "auth.mypage", false, creator::myPage);
+        count(measured, "auth.refresh", false, creator::refresh);
+        count(measured, "couple.recommendation-data", false, creator::recommendationData);
+        count(measured, "couple.ticket", false, creator::ticket);
+        count(measured, "couple.ticket.consume", false, creator::consume);
+        count(measured, "couple.ticket.consume-and-complete-rock", false, creator::consumeTicketAndCompleteRock);
+        return measured;
+    }
+
+    // 측정 대상 흐름 (성공한 경우에만 문 수 기록)
+    private void count(Map<String, Long> measured, String flow, boolean redirect, Action action) {
+        statistics.clear();
+        if (succeeded(flow, redirect, action)) {
+            measured.put(flow, statistics.getPrepareStatementCount());
+        }
+    }
+
+    // 측정하지 않는 준비 단계 (실패하면 이후 흐름의 상태를 믿을 수 없으므로 함께 실패 처리)
+    private void prepare(String step, boolean redirect, Action action) {
+        succeeded(step, redirect, action);
+    }
+
+    private boolean succeeded(String name, boolean redirect, Action action) {
+        EndpointStats stats = new EndpointStats(name);
+        try {
+            action.run(stats);
+        } catch (Exception e) {
+            failures.add(name + ": " + e);
+            return false;
+        }
+        for (int status : stats.statuses()) {
+            boolean success = (status >= 200 && status < 300) || (redirect && status == 302);
+            if (!success) {
+                failures.add(name + ": 응답 상태 " + stats.statuses());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Map<String, Long> load() throws IOException {
+        Map<String, Long> budgets = new TreeMap<>();
+        if (!Files.exists(budgetFile)) {
+            return budgets;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(budgetFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        properties.stringPropertyNames().forEach(name -> budgets.put(name, Long.parseLong(properties.getProperty(name).trim())));
+        return budgets;
+    }
+
+    private void save(Map<String, Long> budgets) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(budgetFile, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            for (Map.Entry<String, Long> entry : budgets.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + System.lineSeparator());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run(EndpointStats stats) throws Exception;
+    }
+}
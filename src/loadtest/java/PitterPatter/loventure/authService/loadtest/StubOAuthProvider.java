@@ -0,0 +1,100 @@
+package PitterPatter.loventure.authService.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 부하 테스트용 카카오 OAuth2 제공자 대역 (JDK HttpServer)
+ * - /oauth/authorize : redirect_uri?code=user-{stub_user}&state=... 로 즉시 리다이렉트
+ * - /oauth/token     : code를 그대로 담은 access token 발급
+ * - /v2/user/me      : access token의 사용자 번호로 카카오 형식 사용자 정보 반환
+ * 그 밖의 경로(territory-service 등 외부 호출)는 빈 JSON으로 200 응답
+ */
+final class StubOAuthProvider implements AutoCloseable {
+
+    private final HttpServer server;
+
+    StubOAuthProvider() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        server.createContext("/oauth/authorize", this::authorize);
+        server.createContext("/oauth/token", this::token);
+        server.createContext("/v2/user/me", this::userInfo);
+        server.createContext("/", exchange -> respond(exchange, 200, "{}"));
+        server.setExecutor(Executors.newFixedThreadPool(16));
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void authorize(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String location = query.get("redirect_uri")
+                + "?code=" + URLEncoder.encode("user-" + query.getOrDefault("stub_user", "0"), StandardCharsets.UTF_8)
+                + "&state=" + URLEncoder.encode(query.getOrDefault("state", ""), StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String code = parseQuery(body).getOrDefault("code", "user-0");
+        respond(exchange, 200, "{\"access_token\":\"" + code + "\",\"token_type\":\"bearer\",\"expires_in\":3600}");
+    }
+
+    private void userInfo(HttpExchange exchange) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        String user = authorization != null && authorization.startsWith("Bearer user-")
+                ? authorization.substring("Bearer user-".length())
+                : "0";
+        long id = 9_000_000_000L + Long.parseLong(user);
+        respond(exchange, 200, """
+                {"id":%d,"properties":{"nickname":"부하테스트%s"},"kakao_account":{"email":"loadtest-%s@loventure.us"}}
+                """.formatted(id, user, user).trim());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    static Map<String, String> parseQuery(String query) {
+        Map<String, String> values = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return values;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            values.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    static Map<String, String> parseQuery(URI uri) {
+        return parseQuery(uri.getRawQuery());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
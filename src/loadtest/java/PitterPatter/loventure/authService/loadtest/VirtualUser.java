@@ -0,0 +1,218 @@
+package PitterPatter.loventure.authService.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 부하 테스트의 가상 사용자 (쿠키, access token, coupleId를 보관)
+ * 한 사용자는 한 워커 스레드만 사용하므로 동기화하지 않음
+ * 리다이렉트는 따라가지 않고 직접 처리해 OAuth2 단계별로 측정
+ */
+final class VirtualUser {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String UPGRADED_TOKEN_HEADER = "X-Access-Token";
+
+    private final int index;
+    private final HttpClient http;
+    private final URI app;
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+
+    private String accessToken;
+    private String coupleId;
+
+    VirtualUser(int index, HttpClient http, URI app) {
+        this.index = index;
+        this.http = http;
+        this.app = app;
+    }
+
+    String coupleId() {
+        return coupleId;
+    }
+
+    /**
+     * /oauth2/authorization/kakao → 제공자 authorize → /login/oauth2/code/kakao
+     * 콜백 구간(코드 교환, 사용자 정보 조회, upsert, 토큰 발급)만 callbackStats에 기록
+     */
+    void login(EndpointStats authorizeStats, EndpointStats callbackStats) throws IOException, InterruptedException {
+        HttpResponse<String> authorize = timed(authorizeStats, get(app.resolve("/oauth2/authorization/kakao")), 302);
+        String providerAuthorize = location(authorize);
+        if (providerAuthorize == null) {
+            throw new IllegalStateException("authorize 리다이렉트가 없습니다: " + authorize.statusCode());
+        }
+
+        HttpResponse<String> provider = send(HttpRequest.newBuilder(URI.create(providerAuthorize + "&stub_user=" + index)).GET());
+        String callback = location(provider);
+        if (callback == null) {
+            throw new IllegalStateException("제공자 리다이렉트가 없습니다: " + provider.statusCode());
+        }
+
+        HttpResponse<String> completed = timed(callbackStats, get(URI.create(callback)), 302);
+        String redirect = location(completed);
+        String token = redirect != null ? StubOAuthProvider.parseQuery(URI.create(redirect)).get("access_token") : null;
+        if (token == null) {
+            throw new IllegalStateException("로그인 결과에 access_token이 없습니다: " + redirect);
+        }
+        accessToken = token;
+    }
+
+    void refresh(EndpointStats stats) throws IOException, InterruptedException {
+        HttpResponse<String> response = timed(stats, authorized(app.resolve("/api/auth/refresh"))
+                .POST(HttpRequest.BodyPublishers.noBody()), 200);
+        if (response.statusCode() == 200) {
+            JsonNode body = OBJECT_MAPPER.readTree(response.body());
+            if (body.hasNonNull("accessToken")) {
+                accessToken = body.get("accessToken").asText();
+            }
+        }
+    }
+
+    void myPage(EndpointStats stats) throws IOException, InterruptedException {
+        timed(stats, authorized(app.resolve("/api/auth/mypage")).GET(), 200, 304);
+    }
+
+    void ticket(EndpointStats stats) throws IOException, InterruptedException {
+        timed(stats, authorized(app.resolve("/api/couples/" + coupleId + "/ticket")).GET(), 200);
+    }
+
+    // 티켓 소진(400, 40002)도 정상 흐름으로 간주
+    void consume(EndpointStats stats) throws IOException, InterruptedException {
+        timed(stats, authorized(app.resolve("/api/couples/" + coupleId + "/ticket/consume"))
+                .POST(HttpRequest.BodyPublishers.noBody()), 200, 400);
+    }
+
+    void recommendationData(EndpointStats stats) throws IOException, InterruptedException {
+        timed(stats, authorized(app.resolve("/api/couples/" + coupleId + "/recommendation-data")).GET(), 200);
+    }
+
+    void consumeTicketAndCompleteRock(EndpointStats stats) throws IOException, InterruptedException {
+        timed(stats, authorized(app.resolve("/api/couples/" + coupleId + "/ticket/consume-and-complete"))
+                .POST(HttpRequest.BodyPublishers.noBody()), 200, 400);
+    }
+
+    /**
+     * 인증 헤더만 붙여 임의 경로 조회 (상태 코드는 기록만 하고 판단하지 않음)
+     */
+    void probe(String path, EndpointStats stats) throws IOException, InterruptedException {
+        HttpRequest.Builder request = authorized(app.resolve(path)).GET();
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(request);
+        stats.record(System.nanoTime() - start, response.statusCode(), true);
+    }
+
+    /**
+     * 커플룸 생성 후 초대 코드 반환 (준비 단계, 측정하지 않음)
+     */
+    String createRoom() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(json(authorized(app.resolve("/api/couples/room")),
+                "{\"coupleHomeName\":\"loadtest-" + index + "\",\"datingStartDate\":\"2024-01-01\"}"));
+        JsonNode data = OBJECT_MAPPER.readTree(response.body()).path("data");
+        if (!data.hasNonNull("inviteCode")) {
+            throw new IllegalStateException("커플룸 생성 실패: " + response.statusCode() + " " + response.body());
+        }
+        return data.get("inviteCode").asText();
+    }
+
+    /**
+     * 초대 코드로 매칭 후 양쪽 사용자에 coupleId 설정
+     */
+    void match(String inviteCode, VirtualUser creator, EndpointStats stats) throws IOException, InterruptedException {
+        String body = OBJECT_MAPPER.writeValueAsString(Map.of("inviteCode", inviteCode));
+        HttpResponse<String> response = timed(stats, json(authorized(app.resolve("/api/couples/match")), body), 200);
+        JsonNode data = OBJECT_MAPPER.readTree(response.body()).path("data");
+        if (!data.hasNonNull("coupleId")) {
+            throw new IllegalStateException("커플 매칭 실패: " + response.statusCode() + " " + response.body());
+        }
+        coupleId = data.get("coupleId").asText();
+        creator.coupleId = coupleId;
+        if (data.hasNonNull("accessToken")) {
+            accessToken = data.get("accessToken").asText();
+        }
+    }
+
+    private HttpResponse<String> timed(EndpointStats stats, HttpRequest.Builder request, int... expectedStatuses)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = send(request);
+            stats.record(System.nanoTime() - start, response.statusCode(), isExpected(response.statusCode(), expectedStatuses));
+            return response;
+        } catch (IOException e) {
+            stats.recordFailure(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        if (!cookies.isEmpty()) {
+            request.header("Cookie", cookies.entrySet().stream()
+                    .map(cookie -> cookie.getKey() + "=" + cookie.getValue())
+                    .collect(Collectors.joining("; ")));
+        }
+        HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        storeCookies(response.headers().allValues("Set-Cookie"));
+        // 커플 상태 변경 후 JWTFilter가 재발급한 토큰 반영
+        response.headers().firstValue(UPGRADED_TOKEN_HEADER).ifPresent(token -> accessToken = token);
+        return response;
+    }
+
+    private HttpRequest.Builder get(URI uri) {
+        return HttpRequest.newBuilder(uri).GET();
+    }
+
+    private HttpRequest.Builder authorized(URI uri) {
+        return HttpRequest.newBuilder(uri).header("Authorization", "Bearer " + accessToken);
+    }
+
+    private static HttpRequest.Builder json(HttpRequest.Builder request, String body) {
+        return request.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+    }
+
+    // 이름=값만 보관 (도메인/경로는 단일 호스트라 무시), Max-Age=0이면 삭제
+    private void storeCookies(List<String> setCookies) {
+        for (String setCookie : setCookies) {
+            String[] attributes = setCookie.split(";");
+            int separator = attributes[0].indexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            String name = attributes[0].substring(0, separator).trim();
+            String value = attributes[0].substring(separator + 1).trim();
+            boolean expired = value.isEmpty();
+            for (int i = 1; i < attributes.length && !expired; i++) {
+                expired = attributes[i].trim().equalsIgnoreCase("Max-Age=0");
+            }
+            if (expired) {
+                cookies.remove(name);
+            } else {
+                cookies.put(name, value);
+            }
+        }
+    }
+
+    private static String location(HttpResponse<?> response) {
+        return response.headers().firstValue("Location").orElse(null);
+    }
+
+    private static boolean isExpected(int status, int... expectedStatuses) {
+        for (int expected : expectedStatuses) {
+            if (status == expected) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
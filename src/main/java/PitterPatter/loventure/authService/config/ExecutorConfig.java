@@ -0,0 +1,37 @@
+package PitterPatter.loventure.authService.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import PitterPatter.loventure.authService.monitoring.QueryInspector;
+
+/**
+ * 비동기 실행기 설정 클래스
+ * - 하나의 요청 안에서 서로 독립적인 조회를 병렬로 실행하기 위한 전용 스레드 풀
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 조회 fan-out 전용 실행기 (마이페이지 등)
+     * 풀이 가득 차면 호출 스레드에서 직접 실행하여 요청이 유실되지 않도록 합니다.
+     * 작업 스레드에서 실행한 SQL도 요청 단위 집계(QueryInspector)에 포함되도록 decorator 적용
+     */
+    @Bean(name = "queryFanoutExecutor")
+    public Executor queryFanoutExecutor(ObjectProvider<QueryInspector> queryInspector) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("query-fanout-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        queryInspector.ifAvailable(inspector -> executor.setTaskDecorator(inspector.taskDecorator()));
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,43 @@
+package PitterPatter.loventure.authService.config;
+
+import java.util.Set;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * 핫 패스 메트릭 설정
+ * - 아래 타이머는 백분위 히스토그램(_bucket) 발행 (p99 등은 Prometheus에서 집계)
+ * - 태그는 operation, outcome, command 등 고정된 값만 사용 (coupleId, userId 등 금지)
+ */
+@Configuration
+public class MetricsConfig {
+
+    static final Set<String> HOT_PATH_TIMERS = Set.of(
+            "auth.jwt.filter",     // JWTFilter 구간별 (parse, epoch, lookup, total)
+            "auth.login",          // OAuth2 로그인 (upsert, issue)
+            "auth.refresh",        // 토큰 갱신
+            "couple.ticket",       // CoupleService 티켓 작업
+            "redis.ticket",        // RedisTicketService 명령
+            "territory.client");   // territory-service 호출
+
+    @Bean
+    public MeterFilter hotPathHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() == Meter.Type.TIMER && HOT_PATH_TIMERS.contains(id.getName())) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
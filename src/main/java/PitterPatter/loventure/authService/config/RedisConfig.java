@@ -5,13 +5,19 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import PitterPatter.loventure.authService.security.TokenEpochService;
+import PitterPatter.loventure.authService.security.TokenRevocationList;
+
 /**
  * Redis 설정 클래스
  * - Redis 연동을 위한 RedisTemplate 설정
  * - 캐시 기능 활성화
+ * - 토큰 폐기/epoch pub/sub 리스너 컨테이너
  */
 @Configuration
 @EnableCaching
@@ -35,4 +41,16 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    // 인스턴스 간 Access Token 폐기, 토큰 epoch 변경 전파용 pub/sub 구독
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TokenRevocationList tokenRevocationList,
+                                                                       TokenEpochService tokenEpochService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenRevocationList, new ChannelTopic(TokenRevocationList.CHANNEL));
+        container.addMessageListener(tokenEpochService, new ChannelTopic(TokenEpochService.CHANNEL));
+        return container;
+    }
 }
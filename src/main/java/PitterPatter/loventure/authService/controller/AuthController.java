@@ -5,6 +5,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -18,15 +19,16 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import PitterPatter.loventure.authService.constants.RedirectStatus;
-import PitterPatter.loventure.authService.dto.TicketInfo;
+import PitterPatter.loventure.authService.dto.MyPageVersion;
+import PitterPatter.loventure.authService.dto.UserJourneyView;
 import PitterPatter.loventure.authService.dto.request.SignupRequest;
 import PitterPatter.loventure.authService.dto.response.ApiResponse;
 import PitterPatter.loventure.authService.dto.response.AuthResponse;
 import PitterPatter.loventure.authService.dto.response.LogoutResponse;
 import PitterPatter.loventure.authService.dto.response.MyPageApiResponse;
-import PitterPatter.loventure.authService.dto.response.MyPageResponse;
 import PitterPatter.loventure.authService.dto.response.ProfileUpdateResponse;
 import PitterPatter.loventure.authService.dto.response.SignupResponse;
 import PitterPatter.loventure.authService.dto.response.UserExistsResponse;
@@ -35,11 +37,10 @@ import PitterPatter.loventure.authService.dto.response.UserInfoResponse;
 import PitterPatter.loventure.authService.dto.response.UserStatusResponse;
 import PitterPatter.loventure.authService.exception.BusinessException;
 import PitterPatter.loventure.authService.exception.ErrorCode;
-import PitterPatter.loventure.authService.mapper.MyPageMapper;
-import PitterPatter.loventure.authService.repository.CoupleRoom;
 import PitterPatter.loventure.authService.repository.User;
 import PitterPatter.loventure.authService.service.AuthService;
-import PitterPatter.loventure.authService.service.CoupleService;
+import PitterPatter.loventure.authService.service.JourneyStateService;
+import PitterPatter.loventure.authService.service.MyPageService;
 import PitterPatter.loventure.authService.service.TerritoryServiceClient;
 import PitterPatter.loventure.authService.service.UserService;
 import jakarta.servlet.http.Cookie;
@@ -57,8 +58,8 @@ public class AuthController {
 
     private final AuthService authService;
     private final UserService userService;
-    private final CoupleService coupleService;
-    private final MyPageMapper myPageMapper;
+    private final JourneyStateService journeyStateService;
+    private final MyPageService myPageService;
     private final TerritoryServiceClient territoryServiceClient;
 
     @Value("${spring.jwt.redirect.onboarding}")
@@ -135,7 +136,7 @@ public class AuthController {
      * 인증된 사용자 정보를 직접 주입받습니다.
      */
     @GetMapping("/mypage")
-    public ResponseEntity<?> getMyPage(@AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<?> getMyPage(@AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest) {
         try {
             if (userDetails == null) {
                 return ResponseEntity.badRequest()
@@ -143,49 +144,27 @@ public class AuthController {
             }
 
             String providerId = userDetails.getUsername();
-            User user = userService.validateUserByProviderId(providerId);
 
-            // 커플 정보 조회
-            Optional<CoupleRoom> coupleRoomOpt = coupleService.getCoupleInfo(providerId);
-            User partner = null;
-            
-            if (coupleRoomOpt.isPresent()) {
-                CoupleRoom coupleRoom = coupleRoomOpt.get();
-                // 파트너 정보 조회 (파트너가 존재하는 경우에만)
-                String partnerProviderId = coupleRoom.getCreatorUserId().equals(providerId) 
-                    ? coupleRoom.getPartnerUserId() 
-                    : coupleRoom.getCreatorUserId();
-                
-                if (partnerProviderId != null) {
-                    try {
-                        partner = userService.validateUserByProviderId(partnerProviderId);
-                    } catch (BusinessException e) {
-                        log.warn("파트너 사용자 정보를 찾을 수 없습니다: {}", partnerProviderId);
-                        // 파트너 정보가 없어도 커플룸 정보는 표시
-                    }
-                }
-            }
-
-            // 티켓 정보 조회 (커플이 있는 경우에만)
-            Integer ticket = null;
-            if (coupleRoomOpt.isPresent()) {
-                try {
-                    String coupleId = coupleRoomOpt.get().getCoupleId();
-                    if (coupleId != null) {
-                        TicketInfo ticketInfo = coupleService.getTicketInfoFromDb(coupleId);
-                        ticket = ticketInfo.ticket();
+            // If-None-Match가 있으면 버전만 조회하여 변경이 없을 경우 전체 조합 없이 304 응답
+            if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+                Optional<MyPageVersion> versionOpt = myPageService.getMyPageVersion(providerId);
+                if (versionOpt.isPresent()) {
+                    String eTag = toMyPageETag(providerId, versionOpt.get());
+                    if (webRequest.checkNotModified(eTag)) {
+                        return ETagSupport.notModified(eTag);
                     }
-                } catch (Exception e) {
-                    log.warn("티켓 정보 조회 실패: {}", e.getMessage());
-                    // 티켓 정보 조회 실패해도 마이페이지는 정상 응답
                 }
             }
 
-            // 매퍼를 사용하여 MyPageResponse 생성
-            MyPageResponse myPageResponse = myPageMapper.toMyPageResponse(user, coupleRoomOpt, partner, ticket);
+            // 사용자 조회와 커플/파트너/티켓 조인 조회를 병렬로 실행
+            MyPageService.MyPageResult result = myPageService.getMyPage(providerId);
 
-            MyPageApiResponse response = new MyPageApiResponse(true, myPageResponse);
-            return ResponseEntity.ok(response);
+            MyPageApiResponse response = new MyPageApiResponse(true, result.response());
+            return ResponseEntity.ok()
+                    .eTag(toMyPageETag(providerId, result.version()))
+                    .cacheControl(ETagSupport.REVALIDATE)
+                    .header("Server-Timing", result.serverTiming())
+                    .body(response);
 
         } catch (Exception e) {
             log.error("마이페이지 정보 조회 중 오류 발생: {}", e.getMessage(), e);
@@ -194,6 +173,11 @@ public class AuthController {
         }
     }
 
+    private String toMyPageETag(String providerId, MyPageVersion version) {
+        return ETagSupport.weakETag(providerId,
+                version.userUpdatedAt(), version.coupleUpdatedAt(), version.partnerUpdatedAt());
+    }
+
     /**
      * 사용자 프로필 수정
      */
@@ -229,12 +213,14 @@ public class AuthController {
      */
     @PostMapping("/logout")
     public ResponseEntity<?> logout(@RequestHeader(value = "Authorization") String authorization,
+                                    HttpServletRequest request,
                                     HttpServletResponse response) {
         try {
-            if (authorization != null && authorization.startsWith("Bearer ")) {
-                // String token = authorization.substring(7);
-                log.info("로그아웃 요청 처리 완료. 클라이언트는 토큰을 폐기해야 합니다.");
-            }
+            // 현재 Access Token과 이 기기의 Refresh Token 폐기 (다른 기기 세션은 유지)
+            String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                    ? authorization.substring(7) : null;
+            authService.logout(accessToken, authService.getRefreshTokenFromCookie(request));
+            log.info("로그아웃 요청 처리 완료. 클라이언트는 토큰을 폐기해야 합니다.");
 
             // Refresh token 쿠키 삭제
             authService.clearRefreshTokenCookie(response);
@@ -252,6 +238,25 @@ public class AuthController {
         }
     }
 
+    /**
+     * 모든 기기에서 로그아웃
+     * 발급된 Access Token(epoch 증가)과 모든 기기의 Refresh Token을 무효화합니다.
+     */
+    @PostMapping("/logout-all")
+    public ResponseEntity<?> logoutAll(@AuthenticationPrincipal UserDetails userDetails,
+                                       HttpServletResponse response) {
+        try {
+            authService.logoutAll(userDetails.getUsername());
+            authService.clearRefreshTokenCookie(response);
+
+            return ResponseEntity.ok(new LogoutResponse(true, "모든 기기에서 로그아웃되었습니다."));
+        } catch (Exception e) {
+            log.error("전체 로그아웃 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("LOGOUT_ERROR", "로그아웃 중 오류가 발생했습니다"));
+        }
+    }
+
 
     /**
      * 계정 상태 확인
@@ -333,12 +338,18 @@ public class AuthController {
      * GET /api/auth/user/{userId}
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<?> getUserInfo(@PathVariable String userId) {
+    public ResponseEntity<?> getUserInfo(@PathVariable String userId, WebRequest webRequest) {
         try {
             log.info("유저 정보 조회 요청 - userId: {}", userId);
             
             // userId로 사용자 조회
             User user = userService.getUserById(userId);
+
+            // 변경이 없으면 304 응답 (응답 본문 생성/직렬화 생략)
+            String eTag = ETagSupport.weakETag(user.getUserId(), user.getUpdatedAt());
+            if (webRequest.checkNotModified(eTag)) {
+                return ETagSupport.notModified(eTag);
+            }
             
             // UserInfoResponse 생성
             UserInfoResponse userInfoResponse = new UserInfoResponse(
@@ -350,7 +361,10 @@ public class AuthController {
             UserInfoApiResponse response = new UserInfoApiResponse("success", userInfoResponse);
             
             log.info("유저 정보 조회 성공 - userId: {}, name: {}", userId, user.getName());
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(ETagSupport.REVALIDATE)
+                    .body(response);
             
         } catch (BusinessException e) {
             log.warn("유저 정보 조회 실패 - userId: {}, error: {}", userId, e.getMessage());
@@ -394,49 +408,47 @@ public class AuthController {
             }
 
             String providerId = userDetails.getUsername();
-            User user = userService.validateUserByProviderId(providerId);
 
-            // 개인 온보딩 완료 여부 확인
-            boolean isOnboardingCompleted = userService.isOnboardingCompleted(user);
-            
-            // 커플 매칭 상태 확인
-            boolean isCoupled = coupleService.isUserCoupled(providerId);
-            
-            // rock 완료 여부 확인
-            boolean isRockCompleted = userService.isRockCompleted(user);
+            // 저장된 진행 단계만 조회 (온보딩/커플/rock 여부를 매번 계산하지 않음)
+            UserJourneyView journey = journeyStateService.resolve(providerId);
 
             String redirectUrl;
             String status;
 
-            if (!isOnboardingCompleted) {
-                // 신규회원 또는 개인 온보딩 미완료
-                redirectUrl = onboardingRedirectUrl;
-                status = RedirectStatus.ONBOARDING_REQUIRED;
-            } else if (!isCoupled) {
-                // 개인 온보딩 완료, 커플 매칭 미완료
-                redirectUrl = coupleroomRedirectUrl;
-                status = RedirectStatus.COUPLE_MATCHING_REQUIRED;
-            } else if (!isRockCompleted) {
-                // 커플 매칭 완료, rock 미완료
-                redirectUrl = rockRedirectUrl;
-                status = RedirectStatus.ROCK_REQUIRED;
-            } else {
-                // 개인 온보딩, 커플 매칭, rock 모두 완료
-                redirectUrl = homeRedirectUrl;
-                status = RedirectStatus.COMPLETED;
+            switch (journey.journeyState()) {
+                case ONBOARDING_REQUIRED -> {
+                    // 신규회원 또는 개인 온보딩 미완료
+                    redirectUrl = onboardingRedirectUrl;
+                    status = RedirectStatus.ONBOARDING_REQUIRED;
+                }
+                case COUPLE_MATCHING_REQUIRED -> {
+                    // 개인 온보딩 완료, 커플 매칭 미완료
+                    redirectUrl = coupleroomRedirectUrl;
+                    status = RedirectStatus.COUPLE_MATCHING_REQUIRED;
+                }
+                case ROCK_REQUIRED -> {
+                    // 커플 매칭 완료, rock 미완료
+                    redirectUrl = rockRedirectUrl;
+                    status = RedirectStatus.ROCK_REQUIRED;
+                }
+                default -> {
+                    // 개인 온보딩, 커플 매칭, rock 모두 완료
+                    redirectUrl = homeRedirectUrl;
+                    status = RedirectStatus.COMPLETED;
+                }
             }
 
             UserStatusResponse response = new UserStatusResponse(
                 true,
                 redirectUrl,
                 status,
-                isOnboardingCompleted,
-                isCoupled,
-                isRockCompleted
+                journey.journeyState().isOnboardingCompleted(),
+                journey.journeyState().isCoupled(),
+                journey.rockCompleted()
             );
 
             log.info("사용자 리다이렉트 URL 반환 - userId: {}, status: {}, redirectUrl: {}", 
-                    user.getUserId(), status, redirectUrl);
+                    journey.userId(), status, redirectUrl);
 
             return ResponseEntity.ok(response);
 
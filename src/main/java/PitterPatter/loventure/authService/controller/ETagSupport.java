@@ -0,0 +1,51 @@
+package PitterPatter.loventure.authService.controller;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 조건부 GET(ETag / If-None-Match) 처리를 위한 컨트롤러 공용 헬퍼
+ * 엔티티의 updatedAt을 기반으로 약한(weak) ETag를 생성합니다.
+ */
+final class ETagSupport {
+
+    // 클라이언트는 캐시하되 매번 ETag로 재검증 (Spring Security 기본 no-store 헤더 대체)
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETagSupport() {
+        // 유틸리티 클래스는 인스턴스화 방지
+    }
+
+    /**
+     * scope(사용자 식별자)와 수정 시각들로 약한 ETag 생성
+     * 예: W/"1a2b3c-18c4f2e1a0b-0"
+     */
+    static String weakETag(String scope, LocalDateTime... versions) {
+        StringBuilder tag = new StringBuilder("W/\"");
+        tag.append(Integer.toHexString(scope.hashCode()));
+        for (LocalDateTime version : versions) {
+            tag.append('-');
+            if (version == null) {
+                tag.append('0');
+            } else {
+                long nanos = version.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + version.getNano();
+                tag.append(Long.toHexString(nanos));
+            }
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * 304 Not Modified 응답 생성
+     */
+    static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .build();
+    }
+}
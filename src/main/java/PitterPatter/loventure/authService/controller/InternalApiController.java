@@ -3,14 +3,20 @@ package PitterPatter.loventure.authService.controller;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import PitterPatter.loventure.authService.dto.request.TokenVerifyBatchRequest;
 import PitterPatter.loventure.authService.dto.response.ApiResponse;
+import PitterPatter.loventure.authService.dto.response.TokenVerifyBatchResponse;
 import PitterPatter.loventure.authService.service.AuthService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,6 +28,9 @@ public class InternalApiController {
 
     private final AuthService authService;
 
+    @Value("${internal.token.verify.batch.max-size:500}")
+    private int verifyBatchMaxSize;
+
     /**
      * Territory-service로부터 JWT 토큰 검증 요청을 받는 API
      * Territory-service가 GET 메서드로 호출
@@ -66,4 +75,27 @@ public class InternalApiController {
                     .body(ApiResponse.error("TOKEN_VERIFICATION_ERROR", "토큰 검증 중 오류가 발생했습니다"));
         }
     }
+
+    /**
+     * Territory-service로부터 여러 JWT 토큰을 한 번에 검증 요청받는 API
+     * 토큰별 유효 여부와 userId/coupleId를 요청 순서대로 반환
+     */
+    @PostMapping("/api/regions/verify:batch")
+    public ResponseEntity<ApiResponse<TokenVerifyBatchResponse>> verifyTokens(
+            @RequestBody @Valid TokenVerifyBatchRequest request) {
+        if (request.tokens().size() > verifyBatchMaxSize) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("40001", "한 번에 검증할 수 있는 토큰은 최대 " + verifyBatchMaxSize + "개입니다"));
+        }
+
+        try {
+            TokenVerifyBatchResponse response = authService.verifyJwtTokens(request.tokens());
+            return ResponseEntity.ok(ApiResponse.success(response));
+
+        } catch (Exception e) {
+            log.error("JWT 일괄 검증 실패 - error: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("TOKEN_VERIFICATION_ERROR", "토큰 검증 중 오류가 발생했습니다"));
+        }
+    }
 }
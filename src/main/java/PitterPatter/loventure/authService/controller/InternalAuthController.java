@@ -0,0 +1,76 @@
+package PitterPatter.loventure.authService.controller;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import PitterPatter.loventure.authService.dto.response.ApiResponse;
+import PitterPatter.loventure.authService.dto.response.AuthContextResponse;
+import PitterPatter.loventure.authService.exception.BusinessException;
+import PitterPatter.loventure.authService.exception.ErrorCode;
+import PitterPatter.loventure.authService.service.AuthContextService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gateway용 내부 인증 API
+ * 토큰 하나당 한 번의 (캐시 가능한) 호출로 사용자/커플/티켓 정보를 제공
+ */
+@RestController
+@RequestMapping("/internal/auth")
+@RequiredArgsConstructor
+@Slf4j
+public class InternalAuthController {
+
+    private final AuthContextService authContextService;
+
+    // 응답 캐시 상한 (토큰 만료가 더 이르면 토큰 만료까지만)
+    @Value("${internal.auth.context.max-age:60s}")
+    private Duration contextMaxAge;
+
+    /**
+     * 토큰의 인증 컨텍스트 조회
+     * Cache-Control max-age는 설정값과 토큰 잔여 유효 시간 중 작은 값
+     */
+    @GetMapping("/context")
+    public ResponseEntity<ApiResponse<AuthContextResponse>> getAuthContext(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("INVALID_TOKEN", "유효하지 않은 토큰입니다"));
+        }
+
+        try {
+            AuthContextResponse context = authContextService.getAuthContext(authorization.substring(7).trim());
+
+            long remainingSeconds = Duration.between(Instant.now(), context.tokenExpiresAt()).getSeconds();
+            long maxAgeSeconds = Math.max(0, Math.min(contextMaxAge.getSeconds(), remainingSeconds));
+
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePrivate())
+                    .varyBy(HttpHeaders.AUTHORIZATION)
+                    .body(ApiResponse.success(context));
+
+        } catch (BusinessException e) {
+            HttpStatus status = e.getErrorCode() == ErrorCode.USER_NOT_FOUND ? HttpStatus.NOT_FOUND : HttpStatus.UNAUTHORIZED;
+            log.warn("인증 컨텍스트 조회 실패 - {}", e.getMessage());
+            return ResponseEntity.status(status)
+                    .cacheControl(CacheControl.noStore())
+                    .body(ApiResponse.error(e.getErrorCode().getCode(), e.getMessage()));
+        } catch (Exception e) {
+            log.error("인증 컨텍스트 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .cacheControl(CacheControl.noStore())
+                    .body(ApiResponse.error("50001", "인증 컨텍스트 조회 중 오류가 발생했습니다"));
+        }
+    }
+}
@@ -1,44 +1,74 @@
 package PitterPatter.loventure.authService.controller;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import PitterPatter.loventure.authService.dto.request.UserBatchRequest;
+import PitterPatter.loventure.authService.dto.response.ApiResponse;
+import PitterPatter.loventure.authService.dto.response.UserBatchResponse;
+import PitterPatter.loventure.authService.dto.response.UserChangeFeedResponse;
 import PitterPatter.loventure.authService.dto.response.UserInfoResponse;
 import PitterPatter.loventure.authService.exception.BusinessException;
 import PitterPatter.loventure.authService.exception.ErrorCode;
 import PitterPatter.loventure.authService.service.UserService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * internal/user/ 경로에 대한 요청을 처리하는 컨트롤러
+ * internal/user 경로에 대한 요청을 처리하는 컨트롤러
  * MSA 내부 통신을 위한 사용자 정보 조회 API를 제공합니다.
  */
 @RestController
-@RequestMapping("/internal/user")
+@RequestMapping("/internal")
 @RequiredArgsConstructor
 @Slf4j
 public class InternalUserController {
 
     private final UserService userService;
 
+    @Value("${internal.user.batch.max-size:100}")
+    private int batchMaxSize;
+
+    @Value("${internal.user.changes.max-limit:500}")
+    private int changesMaxLimit;
+
     /**
      * internal/user/{userId} 경로에 대한 요청 처리
      * Content 서비스에서 사용자 정보를 조회하기 위한 내부 API
      * 
      * @param userId 사용자 ID
-     * @return 사용자 정보 또는 404 Not Found
+     * @return 사용자 정보, 304 Not Modified(If-None-Match 일치) 또는 404 Not Found
      */
-    @GetMapping("/{userId}")
-    public ResponseEntity<UserInfoResponse> getUserById(@PathVariable String userId) {
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<UserInfoResponse> getUserById(@PathVariable String userId, WebRequest webRequest) {
         try {
             log.info("내부 MSA 통신: 사용자 정보 조회 요청 - userId: {}", userId);
             
             // userId로 사용자 조회
             var user = userService.getUserById(userId);
+
+            // 변경이 없으면 304 응답 (폴링하는 내부 서비스의 비용 절감)
+            String eTag = ETagSupport.weakETag(user.getUserId(), user.getUpdatedAt());
+            if (webRequest.checkNotModified(eTag)) {
+                return ETagSupport.notModified(eTag);
+            }
             
             // UserInfoResponse 생성
             UserInfoResponse userInfoResponse = new UserInfoResponse(
@@ -47,7 +77,10 @@ public class InternalUserController {
             );
             
             log.info("내부 MSA 통신: 사용자 정보 조회 성공 - userId: {}, name: {}", userId, user.getName());
-            return ResponseEntity.ok(userInfoResponse);
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(ETagSupport.REVALIDATE)
+                    .body(userInfoResponse);
             
         } catch (BusinessException e) {
             log.warn("내부 MSA 통신: 사용자 정보 조회 실패 - userId: {}, error: {}", userId, e.getMessage());
@@ -63,4 +96,111 @@ public class InternalUserController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * internal/user:batch 경로에 대한 GET 요청 처리
+     * Content 서비스에서 여러 사용자 정보를 한 번에 조회하기 위한 내부 API (?ids=a,b,c)
+     *
+     * @param ids 조회할 사용자 ID 목록
+     * @return 조회된 사용자 정보와 존재하지 않는 사용자 ID 목록
+     */
+    @GetMapping("/user:batch")
+    public ResponseEntity<ApiResponse<UserBatchResponse>> getUsersByIds(@RequestParam("ids") List<String> ids) {
+        return getUsersBatch(ids);
+    }
+
+    /**
+     * internal/user:batch 경로에 대한 POST 요청 처리
+     * 쿼리 스트링 길이 제한을 피하기 위해 body로 사용자 ID 목록을 전달받는 버전
+     *
+     * @param request 조회할 사용자 ID 목록
+     * @return 조회된 사용자 정보와 존재하지 않는 사용자 ID 목록
+     */
+    @PostMapping("/user:batch")
+    public ResponseEntity<ApiResponse<UserBatchResponse>> postUsersByIds(@RequestBody @Valid UserBatchRequest request) {
+        return getUsersBatch(request.userIds());
+    }
+
+    /**
+     * internal/user/changes 경로에 대한 요청 처리
+     * 다른 서비스가 사용자 표시 정보 복제본을 증분 동기화하기 위한 변경 피드 API
+     * (updatedAt, userId) 오름차순 키셋 페이지네이션, 응답의 nextCursor로 이어서 조회
+     * 보장 범위: 최대 트랜잭션 시간이 internal.user.changes.safety-lag(기본 30초)보다 짧으면 커밋된 변경을 빠짐없이 전달
+     * - 변경은 updatedAt으로부터 safety-lag가 지난 뒤에 노출됨
+     * - 같은 사용자의 여러 변경은 마지막 상태만 전달될 수 있음 (at-least-once, 최신 상태 기준)
+     *
+     * @param cursor 이전 응답의 nextCursor (생략 시 처음부터)
+     * @param limit 최대 조회 건수
+     * @return 변경된 사용자 목록과 다음 커서
+     */
+    @GetMapping("/user/changes")
+    public ResponseEntity<ApiResponse<UserChangeFeedResponse>> getUserChanges(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        if (limit < 1 || limit > changesMaxLimit) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("40001", "limit은 1 이상 " + changesMaxLimit + " 이하여야 합니다"));
+        }
+
+        try {
+            UserChangeFeedResponse feed = userService.getUserChanges(cursor, limit);
+            log.debug("내부 MSA 통신: 사용자 변경 피드 조회 - 건수: {}, hasMore: {}", feed.changes().size(), feed.hasMore());
+            return ResponseEntity.ok(ApiResponse.success(feed));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("내부 MSA 통신: 잘못된 변경 피드 커서 - cursor: {}", cursor);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("40001", "잘못된 커서입니다"));
+        } catch (Exception e) {
+            log.error("내부 MSA 통신: 사용자 변경 피드 조회 중 오류 발생 - error: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("50001", "사용자 변경 피드 조회 중 오류가 발생했습니다"));
+        }
+    }
+
+    private ResponseEntity<ApiResponse<UserBatchResponse>> getUsersBatch(Collection<String> ids) {
+        // 중복 및 빈 값 제거 (요청 순서 유지)
+        Set<String> userIds = new LinkedHashSet<>();
+        if (ids != null) {
+            for (String id : ids) {
+                if (id != null && !id.isBlank()) {
+                    userIds.add(id.trim());
+                }
+            }
+        }
+
+        if (userIds.isEmpty()) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("40001", "조회할 userId 목록이 비어 있습니다"));
+        }
+        if (userIds.size() > batchMaxSize) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("40001", "한 번에 조회할 수 있는 userId는 최대 " + batchMaxSize + "개입니다"));
+        }
+
+        try {
+            log.info("내부 MSA 통신: 사용자 일괄 조회 요청 - 요청 수: {}", userIds.size());
+
+            Map<String, UserInfoResponse> found = userService.getUserInfosByIds(userIds);
+
+            Map<String, UserInfoResponse> users = new LinkedHashMap<>();
+            List<String> missing = new ArrayList<>();
+            for (String userId : userIds) {
+                UserInfoResponse userInfo = found.get(userId);
+                if (userInfo != null) {
+                    users.put(userId, userInfo);
+                } else {
+                    missing.add(userId);
+                }
+            }
+
+            log.info("내부 MSA 통신: 사용자 일괄 조회 성공 - 조회: {}, 누락: {}", users.size(), missing.size());
+            return ResponseEntity.ok(ApiResponse.success(new UserBatchResponse(users, missing)));
+
+        } catch (Exception e) {
+            log.error("내부 MSA 통신: 사용자 일괄 조회 중 오류 발생 - error: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("50001", "사용자 일괄 조회 중 오류가 발생했습니다"));
+        }
+    }
 }
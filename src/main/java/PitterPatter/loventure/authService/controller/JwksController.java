@@ -0,0 +1,36 @@
+package PitterPatter.loventure.authService.controller;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import PitterPatter.loventure.authService.security.JwtKeyRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWT 검증용 공개키(JWKS) 공개 컨트롤러
+ * Gateway, Territory-service 등이 이 키로 토큰을 로컬에서 검증 (검증 API 호출 불필요)
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    // 키 교체 시 새 키를 먼저 등록하고 이 시간 이상 지난 뒤 활성 키로 전환
+    private static final CacheControl JWKS_CACHE = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    private final JwtKeyRegistry jwtKeyRegistry;
+
+    /**
+     * 공개키 목록 조회 (HS256 모드에서는 빈 목록)
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(JWKS_CACHE)
+                .body(jwtKeyRegistry.jwkSet());
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import PitterPatter.loventure.authService.dto.request.ProfileUpdateRequest;
 import PitterPatter.loventure.authService.dto.response.ApiResponse;
@@ -83,7 +84,8 @@ public class UserController {
      */
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<UserInfoResponse>> getUserInfo(
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
         try {
             // JWT 토큰에서 추출한 사용자 정보 조회
             User currentUser = userService.getUserFromUserDetails(userDetails);
@@ -93,13 +95,22 @@ public class UserController {
                         .body(ApiResponse.error(ErrorCode.UNAUTHORIZED.getCode(), "로그인 후 진행해주세요."));
             }
 
+            // 변경이 없으면 304 응답 (응답 본문 생성/직렬화 생략)
+            String eTag = ETagSupport.weakETag(currentUser.getUserId(), currentUser.getUpdatedAt());
+            if (webRequest.checkNotModified(eTag)) {
+                return ETagSupport.notModified(eTag);
+            }
+
             // UserInfoResponse 생성
             UserInfoResponse userInfoResponse = new UserInfoResponse(
                 currentUser.getUserId().toString(),
                 currentUser.getName()
             );
 
-            return ResponseEntity.ok(ApiResponse.success(userInfoResponse));
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(ETagSupport.REVALIDATE)
+                    .body(ApiResponse.success(userInfoResponse));
 
         } catch (BusinessException e) {
             log.warn("유저 정보 조회 중 비즈니스 오류 발생: {}", e.getMessage());
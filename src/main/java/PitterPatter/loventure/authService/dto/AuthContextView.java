@@ -0,0 +1,16 @@
+package PitterPatter.loventure.authService.dto;
+
+import PitterPatter.loventure.authService.repository.AccountStatus;
+import PitterPatter.loventure.authService.repository.JourneyState;
+
+/**
+ * Gateway 인증 컨텍스트 조회 결과 (사용자 + 활성 커플룸 + 일일 티켓 단일 조인 프로젝션)
+ */
+public record AuthContextView(
+        String userId,
+        AccountStatus status,
+        JourneyState journeyState,
+        String coupleId,
+        Integer ticketCount,
+        Boolean isTodayTicket
+) {}
@@ -0,0 +1,24 @@
+package PitterPatter.loventure.authService.dto;
+
+import java.io.Serializable;
+
+import PitterPatter.loventure.authService.repository.JourneyState;
+import PitterPatter.loventure.authService.repository.ProviderType;
+
+/**
+ * OAuth2 로그인 시점의 사용자 스냅샷
+ * CustomOAuth2UserService에서 한 번 upsert/조회한 결과를 성공 핸들러까지 principal로 전달해
+ * 토큰 발급과 리다이렉트 결정에 재사용 (사용자/커플 재조회 없음)
+ */
+public record LoginSnapshot(
+        String userId,
+        String providerId,
+        ProviderType providerType,
+        String email,
+        String name,
+        String status,
+        boolean isNewUser,
+        String coupleId,
+        JourneyState journeyState,   // 컬럼 추가 이전 사용자는 null
+        boolean isRockCompleted
+) implements Serializable {}
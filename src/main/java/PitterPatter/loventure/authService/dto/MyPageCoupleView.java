@@ -0,0 +1,14 @@
+package PitterPatter.loventure.authService.dto;
+
+import PitterPatter.loventure.authService.repository.CoupleRoom;
+import PitterPatter.loventure.authService.repository.User;
+
+/**
+ * 마이페이지용 커플 조회 결과
+ * 커플룸과 파트너 정보를 한 번의 조인 쿼리로 함께 조회할 때 사용
+ * (파트너가 없거나 탈퇴한 경우 partner는 null)
+ */
+public record MyPageCoupleView(
+    CoupleRoom coupleRoom,
+    User partner
+) {}
@@ -0,0 +1,13 @@
+package PitterPatter.loventure.authService.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마이페이지 응답의 버전 정보 (ETag 생성용)
+ * 마이페이지를 구성하는 사용자, 커플룸, 파트너의 마지막 수정 시각
+ */
+public record MyPageVersion(
+    LocalDateTime userUpdatedAt,
+    LocalDateTime coupleUpdatedAt,
+    LocalDateTime partnerUpdatedAt
+) {}
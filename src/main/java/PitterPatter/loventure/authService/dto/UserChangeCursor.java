@@ -0,0 +1,39 @@
+package PitterPatter.loventure.authService.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 사용자 변경 피드의 키셋 페이지네이션 커서
+ * 마지막으로 전달한 (updatedAt, userId)를 Base64URL로 인코딩한 불투명 토큰으로 주고받음
+ */
+public record UserChangeCursor(LocalDateTime updatedAt, String userId) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = updatedAt + String.valueOf(SEPARATOR) + userId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static UserChangeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex <= 0 || separatorIndex == raw.length() - 1) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다");
+            }
+            return new UserChangeCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    raw.substring(separatorIndex + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다", e);
+        }
+    }
+}
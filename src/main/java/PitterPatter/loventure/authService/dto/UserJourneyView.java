@@ -0,0 +1,13 @@
+package PitterPatter.loventure.authService.dto;
+
+import PitterPatter.loventure.authService.repository.JourneyState;
+
+/**
+ * 리다이렉트 결정용 사용자 진행 단계 조회 결과 (단일 행 프로젝션)
+ */
+public record UserJourneyView(String userId, JourneyState journeyState, Boolean isRockCompleted) {
+
+    public boolean rockCompleted() {
+        return Boolean.TRUE.equals(isRockCompleted);
+    }
+}
@@ -0,0 +1,17 @@
+package PitterPatter.loventure.authService.dto;
+
+import PitterPatter.loventure.authService.repository.AccountStatus;
+import PitterPatter.loventure.authService.repository.JourneyState;
+
+/**
+ * 로그인 시 필요한 사용자 컬럼 + 활성 커플 ID (단일 조인 쿼리 프로젝션)
+ */
+public record UserLoginView(
+        String userId,
+        String email,
+        String name,
+        AccountStatus status,
+        JourneyState journeyState,
+        Boolean isRockCompleted,
+        String coupleId
+) {}
@@ -0,0 +1,13 @@
+package PitterPatter.loventure.authService.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+
+/**
+ * Territory-service용 JWT 일괄 검증 Request DTO
+ */
+public record TokenVerifyBatchRequest(
+    @NotEmpty(message = "검증할 토큰 목록은 필수입니다")
+    List<String> tokens   // "Bearer " 접두사 없이 토큰 값만 전달
+) {}
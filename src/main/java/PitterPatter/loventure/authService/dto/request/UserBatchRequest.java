@@ -0,0 +1,13 @@
+package PitterPatter.loventure.authService.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+
+/**
+ * 내부 서비스용 사용자 일괄 조회 Request DTO
+ */
+public record UserBatchRequest(
+    @NotEmpty(message = "조회할 userId 목록은 필수입니다")
+    List<String> userIds
+) {}
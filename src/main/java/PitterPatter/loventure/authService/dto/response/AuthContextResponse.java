@@ -0,0 +1,22 @@
+package PitterPatter.loventure.authService.dto.response;
+
+import java.time.Instant;
+
+/**
+ * Gateway용 인증 컨텍스트 응답 DTO
+ * 토큰 하나로 사용자 식별 정보, 커플 상태, 티켓 요약을 한 번에 전달
+ */
+public record AuthContextResponse(
+    String userId,
+    String providerId,
+    String coupleId,          // 커플이 아니면 null
+    String status,            // 계정 상태 (ACTIVE / DEACTIVATED)
+    String journeyState,      // ONBOARDING_REQUIRED / COUPLE_MATCHING_REQUIRED / ROCK_REQUIRED / COMPLETED
+    TicketSummary ticket,     // 커플이 아니면 null
+    Instant tokenExpiresAt
+) {
+    public record TicketSummary(
+        int ticket,           // 잔여 티켓 수 (Redis 우선, 없으면 DB)
+        boolean isTodayTicket // 오늘 일일 티켓 사용 가능 여부
+    ) {}
+}
@@ -0,0 +1,11 @@
+package PitterPatter.loventure.authService.dto.response;
+
+import java.util.List;
+
+/**
+ * Territory-service용 JWT 일괄 검증 응답 DTO
+ */
+public record TokenVerifyBatchResponse(
+    List<TokenVerifyResult> results,  // 요청 토큰 순서와 동일
+    int validCount
+) {}
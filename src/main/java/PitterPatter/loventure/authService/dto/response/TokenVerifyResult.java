@@ -0,0 +1,19 @@
+package PitterPatter.loventure.authService.dto.response;
+
+/**
+ * JWT 일괄 검증의 토큰별 결과 (요청 순서와 동일)
+ */
+public record TokenVerifyResult(
+    boolean valid,
+    String userId,     // 유효한 경우에만 설정
+    String coupleId,   // 유효하고 커플인 경우에만 설정
+    String reason      // 무효 사유: EMPTY, EXPIRED, INVALID_SIGNATURE, MALFORMED, NOT_ACCESS_TOKEN, REVOKED, USER_INACTIVE
+) {
+    public static TokenVerifyResult valid(String userId, String coupleId) {
+        return new TokenVerifyResult(true, userId, coupleId, null);
+    }
+
+    public static TokenVerifyResult invalid(String reason) {
+        return new TokenVerifyResult(false, null, null, reason);
+    }
+}
@@ -0,0 +1,13 @@
+package PitterPatter.loventure.authService.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내부 서비스용 사용자 일괄 조회 응답 DTO
+ * 존재하지 않는 userId는 에러 대신 missing 목록으로 명시적으로 전달
+ */
+public record UserBatchResponse(
+    Map<String, UserInfoResponse> users,  // userId -> 사용자 정보 (요청 순서 유지)
+    List<String> missing                  // 존재하지 않는 userId 목록
+) {}
@@ -0,0 +1,13 @@
+package PitterPatter.loventure.authService.dto.response;
+
+import java.util.List;
+
+/**
+ * 사용자 변경 피드 응답 DTO
+ * nextCursor를 다음 요청의 cursor로 그대로 전달하면 이어서 조회됨
+ */
+public record UserChangeFeedResponse(
+        List<UserChangeResponse> changes,  // (updatedAt, userId) 오름차순
+        String nextCursor,                 // 불투명 커서 (변경이 없으면 요청 커서 그대로)
+        boolean hasMore                    // 바로 이어서 조회할 변경이 남아 있는지 여부
+) {}
@@ -0,0 +1,17 @@
+package PitterPatter.loventure.authService.dto.response;
+
+import java.time.LocalDateTime;
+
+import PitterPatter.loventure.authService.repository.AccountStatus;
+
+/**
+ * 사용자 변경 피드 항목 DTO
+ * 다른 서비스가 로컬 복제본에 반영할 사용자 표시 정보
+ */
+public record UserChangeResponse(
+        String userId,
+        String userName,
+        String nickname,
+        AccountStatus status,         // DEACTIVATED면 복제본에서 제거
+        LocalDateTime updatedAt
+) {}
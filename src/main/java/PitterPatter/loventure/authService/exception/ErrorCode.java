@@ -9,6 +9,7 @@ public enum ErrorCode {
     // 401 Unauthorized
     UNAUTHORIZED("40101", "인증이 필요합니다"),
     NO_PERMISSION("40102", "권한이 없습니다"),
+    ACCOUNT_DEACTIVATED("40103", "비활성화된 계정입니다"),
     
     // 404 Not Found
     USER_NOT_FOUND("40401", "존재하지 않는 회원입니다"),
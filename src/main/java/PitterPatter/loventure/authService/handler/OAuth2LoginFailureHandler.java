@@ -6,9 +6,11 @@ import java.nio.charset.StandardCharsets;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 import org.springframework.stereotype.Component;
 
+import PitterPatter.loventure.authService.service.CustomOAuth2UserService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -40,6 +42,16 @@ public class OAuth2LoginFailureHandler extends SimpleUrlAuthenticationFailureHan
     }
     
     private String getErrorMessage(AuthenticationException exception) {
+        // 사용자 upsert 단계에서 거부된 경우
+        if (exception instanceof OAuth2AuthenticationException oAuth2Exception) {
+            String errorCode = oAuth2Exception.getError().getErrorCode();
+            if (CustomOAuth2UserService.EMAIL_ALREADY_REGISTERED.equals(errorCode)) {
+                return "이미 가입된 이메일입니다";
+            } else if (CustomOAuth2UserService.ACCOUNT_DEACTIVATED.equals(errorCode)) {
+                return "비활성화된 계정입니다";
+            }
+        }
+
         String message = exception.getMessage();
         log.info("OAuth2 오류 메시지 분석: {}", message);
         
@@ -0,0 +1,113 @@
+package PitterPatter.loventure.authService.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 실행되는 JDBC 문마다 시간을 재서 QueryInspector에 기록하는 DataSource 래퍼
+ * Connection/Statement를 JDK 프록시로 감싸고 execute* 호출만 측정 (배치는 한 번의 실행으로 계산)
+ * DelegatingDataSource라서 Hikari 메트릭 등은 unwrap으로 원본 풀에 그대로 접근
+ * QueryInspector(MeterRegistry 의존)는 DataSource 생성 순서에 얽히지 않도록 첫 연결 시 조회
+ */
+class InspectingDataSource extends DelegatingDataSource {
+
+    private final ObjectProvider<QueryInspector> queryInspectorProvider;
+    private volatile QueryInspector queryInspector;
+
+    InspectingDataSource(DataSource target, ObjectProvider<QueryInspector> queryInspectorProvider) {
+        super(target);
+        this.queryInspectorProvider = queryInspectorProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        if (queryInspector == null) {
+            queryInspector = queryInspectorProvider.getIfAvailable();
+            if (queryInspector == null) {
+                return connection;
+            }
+        }
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InspectingDataSource.invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> statement(result, PreparedStatement.class, (String) args[0]);
+                case "prepareCall" -> statement(result, CallableStatement.class, (String) args[0]);
+                case "createStatement" -> statement(result, Statement.class, null);
+                default -> result;
+            };
+        }
+
+        private Object statement(Object statement, Class<?> type, String sql) {
+            return Proxy.newProxyInstance(InspectingDataSource.class.getClassLoader(), new Class<?>[] {type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Object statement;
+        private final String preparedSql;
+
+        StatementHandler(Object statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return InspectingDataSource.invoke(statement, method, args);
+            }
+            // Statement.execute(sql)는 인자로, PreparedStatement.execute()는 준비된 SQL로 기록
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            long startedAt = System.nanoTime();
+            try {
+                return InspectingDataSource.invoke(statement, method, args);
+            } finally {
+                queryInspector.record(sql, System.nanoTime() - startedAt);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package PitterPatter.loventure.authService.monitoring;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 실행 점검 설정
+ * - DataSource를 InspectingDataSource로 감싸 요청별 실행 수/시간 수집
+ * - Hibernate statistics 활성화 (/actuator/queries, hibernate.* 메트릭에 사용)
+ */
+@Configuration
+@ConditionalOnProperty(name = "monitoring.queries.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryInspectionConfig {
+
+    /**
+     * static: DataSource 생성 전에 등록되어야 하는 후처리기
+     */
+    @Bean
+    public static BeanPostProcessor inspectingDataSourcePostProcessor(ObjectProvider<QueryInspector> queryInspector) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InspectingDataSource)) {
+                    return new InspectingDataSource(dataSource, queryInspector);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsCustomizer(
+            @Value("${monitoring.queries.hibernate-statistics:true}") boolean hibernateStatistics) {
+        return properties -> properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, hibernateStatistics);
+    }
+}
@@ -0,0 +1,112 @@
+package PitterPatter.loventure.authService.monitoring;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/queries : 엔드포인트별 요청당 SQL 수, 느린 쿼리, Hibernate 통계
+ * internalFilterChain에서 내부 서비스 토큰으로 보호되며, management.endpoints.web.exposure.include에 queries 추가 필요
+ * internal.auth.token이 없으면 내부 경로가 인증 없이 열리므로 엔드포인트를 등록하지 않음 (SQL 문, 엔드포인트 노출 방지)
+ * DELETE /actuator/queries 로 누적값 초기화
+ */
+@Component
+@Endpoint(id = "queries")
+@ConditionalOnProperty(name = "monitoring.queries.enabled", havingValue = "true", matchIfMissing = true)
+@Conditional(QueryInspectionEndpoint.InternalTokenConfigured.class)
+@RequiredArgsConstructor
+public class QueryInspectionEndpoint {
+
+    private static final int SLOWEST_HQL_SIZE = 10;
+
+    private final QueryInspector queryInspector;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, Object> queries() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("perRequestThreshold", queryInspector.perRequestThreshold());
+        body.put("slowThresholdMs", queryInspector.slowThresholdMillis());
+        body.put("endpoints", queryInspector.endpointSnapshots());
+        body.put("slowestStatements", queryInspector.slowestQueries());
+        body.put("hibernate", hibernateStatistics());
+        return body;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        queryInspector.reset();
+        statistics().clear();
+    }
+
+    private Map<String, Object> hibernateStatistics() {
+        Statistics statistics = statistics();
+        Map<String, Object> hibernate = new LinkedHashMap<>();
+        hibernate.put("enabled", statistics.isStatisticsEnabled());
+        if (!statistics.isStatisticsEnabled()) {
+            return hibernate;
+        }
+        hibernate.put("prepareStatementCount", statistics.getPrepareStatementCount());
+        hibernate.put("queryExecutionCount", statistics.getQueryExecutionCount());
+        hibernate.put("queryExecutionMaxTimeMs", statistics.getQueryExecutionMaxTime());
+        hibernate.put("queryExecutionMaxTimeQuery", statistics.getQueryExecutionMaxTimeQueryString());
+        hibernate.put("entityLoadCount", statistics.getEntityLoadCount());
+        hibernate.put("entityFetchCount", statistics.getEntityFetchCount());
+        hibernate.put("collectionLoadCount", statistics.getCollectionLoadCount());
+        hibernate.put("collectionFetchCount", statistics.getCollectionFetchCount());
+        hibernate.put("flushCount", statistics.getFlushCount());
+        hibernate.put("transactionCount", statistics.getTransactionCount());
+        hibernate.put("slowestQueries", slowestHql(statistics));
+        return hibernate;
+    }
+
+    // HQL/JPQL별 누적 통계를 최대 실행 시간 순으로
+    private List<Map<String, Object>> slowestHql(Statistics statistics) {
+        return Arrays.stream(statistics.getQueries())
+                .map(query -> Map.entry(query, statistics.getQueryStatistics(query)))
+                .sorted(Comparator.comparingLong((Map.Entry<String, QueryStatistics> entry) -> entry.getValue().getExecutionMaxTime()).reversed())
+                .limit(SLOWEST_HQL_SIZE)
+                .map(entry -> {
+                    Map<String, Object> query = new LinkedHashMap<>();
+                    query.put("query", entry.getKey());
+                    query.put("executions", entry.getValue().getExecutionCount());
+                    query.put("averageMs", entry.getValue().getExecutionAvgTime());
+                    query.put("maxMs", entry.getValue().getExecutionMaxTime());
+                    query.put("rows", entry.getValue().getExecutionRowCount());
+                    return query;
+                })
+                .toList();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // 빈 문자열도 미설정으로 취급 (SecurityConfig의 internalFilterChain과 같은 기준)
+    static class InternalTokenConfigured implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return StringUtils.hasText(context.getEnvironment().getProperty("internal.auth.token"));
+        }
+    }
+}
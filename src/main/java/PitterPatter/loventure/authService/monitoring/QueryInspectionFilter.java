@@ -0,0 +1,80 @@
+package PitterPatter.loventure.authService.monitoring;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 단위 SQL 실행 집계 필터
+ * 보안 필터 체인(JWTFilter 포함)보다 먼저 실행되어 필터에서 실행된 조회도 같은 요청에 집계
+ * 메트릭 태그는 실제 URI가 아닌 매핑된 경로 패턴 사용 (/api/couples/{coupleId}/ticket)
+ * 표준이 아닌 HTTP 메서드는 UNKNOWN으로 묶음 (임의 메서드 요청마다 메트릭, 집계 항목이 늘어나지 않도록)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "monitoring.queries.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class QueryInspectionFilter extends OncePerRequestFilter {
+
+    private static final Set<String> STANDARD_METHODS = Arrays.stream(HttpMethod.values())
+            .map(HttpMethod::name)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final QueryInspector queryInspector;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String method = methodOf(request);
+        QueryInspector.RequestQueries queries = queryInspector.begin(method + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queryInspector.end(queries, method, endpointOf(request, response));
+        }
+    }
+
+    private static String methodOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        return STANDARD_METHODS.contains(method) ? method : "UNKNOWN";
+    }
+
+    private static String endpointOf(HttpServletRequest request, HttpServletResponse response) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        // 컨트롤러까지 가지 않은 요청(인증 실패, OAuth2 리다이렉트 등)은 상태별로 묶음
+        if (request.getRequestURI().startsWith("/login/oauth2/code/")) {
+            return "/login/oauth2/code/{registrationId}";
+        }
+        if (request.getRequestURI().startsWith("/oauth2/authorization/")) {
+            return "/oauth2/authorization/{registrationId}";
+        }
+        return switch (response.getStatus()) {
+            case 401, 403 -> "UNAUTHORIZED";
+            case 404 -> "NOT_FOUND";
+            default -> "UNKNOWN";
+        };
+    }
+}
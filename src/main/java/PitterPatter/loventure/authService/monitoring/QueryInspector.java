@@ -0,0 +1,289 @@
+package PitterPatter.loventure.authService.monitoring;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP 요청별 SQL 실행 수/시간 집계 및 느린 쿼리 기록
+ * - InspectingDataSource가 실행마다 record 호출, QueryInspectionFilter가 요청 단위로 begin/end
+ * - 요청 안에서 queryFanoutExecutor로 넘긴 조회도 decorator로 같은 요청에 집계
+ * - 요청당 실행 수가 기준을 넘으면 경고 로그 + 카운터 (N+1 탐지)
+ * - 느린 쿼리는 엔드포인트와 함께 상위 N개만 보관 (/actuator/queries)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "monitoring.queries.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryInspector {
+
+    private static final int MAX_SQL_LENGTH = 500;
+
+    private final ThreadLocal<RequestQueries> current = new ThreadLocal<>();
+    private final Map<String, EndpointQueries> endpoints = new ConcurrentHashMap<>();
+    private final PriorityQueue<SlowQuery> slowest = new PriorityQueue<>(Comparator.comparingLong(SlowQuery::durationNanos));
+    private volatile long slowestFloorNanos;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer statementTimer;
+    private final Counter slowStatementCounter;
+    private final int perRequestThreshold;
+    private final long slowThresholdNanos;
+    private final int slowestSize;
+
+    public QueryInspector(MeterRegistry meterRegistry,
+                          @Value("${monitoring.queries.per-request-threshold:6}") int perRequestThreshold,
+                          @Value("${monitoring.queries.slow-threshold:200ms}") Duration slowThreshold,
+                          @Value("${monitoring.queries.slowest-size:20}") int slowestSize) {
+        this.meterRegistry = meterRegistry;
+        this.perRequestThreshold = perRequestThreshold;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowestSize = slowestSize;
+        this.slowestFloorNanos = slowThresholdNanos;
+        this.statementTimer = Timer.builder("db.statements")
+                .description("JDBC 문 실행 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.slowStatementCounter = Counter.builder("db.statements.slow")
+                .description("느린 쿼리 기준을 넘은 JDBC 문 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 집계 시작 (필터에서 호출, end와 짝)
+     * @param label 느린 쿼리 기록용 요청 표시 (메서드 + 실제 URI)
+     */
+    RequestQueries begin(String label) {
+        RequestQueries queries = new RequestQueries(label);
+        current.set(queries);
+        return queries;
+    }
+
+    /**
+     * 요청 집계 종료 후 엔드포인트별 통계/메트릭 반영
+     * @param endpoint 매핑된 경로 패턴 (예: /api/auth/mypage, 카디널리티를 낮게 유지)
+     */
+    void end(RequestQueries queries, String method, String endpoint) {
+        current.remove();
+        int statements = queries.statements.get();
+
+        endpoints.computeIfAbsent(method + " " + endpoint, key -> new EndpointQueries(method, endpoint))
+                .record(statements, queries.nanos.get());
+        if (statements > perRequestThreshold) {
+            log.warn("요청당 SQL 실행 수 초과 - endpoint: {} {}, request: {}, statements: {}, sql time: {}ms (기준 {})",
+                    method, endpoint, queries.label, statements,
+                    TimeUnit.NANOSECONDS.toMillis(queries.nanos.get()), perRequestThreshold);
+        }
+    }
+
+    /**
+     * JDBC 문 실행 한 건 기록 (InspectingDataSource에서 호출)
+     */
+    void record(String sql, long nanos) {
+        statementTimer.record(nanos, TimeUnit.NANOSECONDS);
+        RequestQueries queries = current.get();
+        if (queries != null) {
+            queries.statements.incrementAndGet();
+            queries.nanos.addAndGet(nanos);
+        }
+        if (nanos >= slowThresholdNanos) {
+            slowStatementCounter.increment();
+            recordSlow(sql, nanos, queries);
+        }
+    }
+
+    /**
+     * 요청 스레드의 집계 대상을 비동기 작업 스레드로 전달
+     */
+    public TaskDecorator taskDecorator() {
+        return runnable -> {
+            RequestQueries queries = current.get();
+            if (queries == null) {
+                return runnable;
+            }
+            return () -> {
+                RequestQueries previous = current.get();
+                current.set(queries);
+                try {
+                    runnable.run();
+                } finally {
+                    if (previous != null) {
+                        current.set(previous);
+                    } else {
+                        current.remove();
+                    }
+                }
+            };
+        };
+    }
+
+    private void recordSlow(String sql, long nanos, RequestQueries queries) {
+        if (nanos <= slowestFloorNanos && isSlowestFull()) {
+            return;
+        }
+        String endpoint = queries != null ? queries.label : "(요청 외부)";
+        SlowQuery slowQuery = new SlowQuery(truncate(sql), nanos, endpoint, Instant.now(), Thread.currentThread().getName());
+        log.warn("느린 쿼리 - endpoint: {}, {}ms, sql: {}", endpoint, TimeUnit.NANOSECONDS.toMillis(nanos), slowQuery.sql());
+        synchronized (slowest) {
+            slowest.add(slowQuery);
+            if (slowest.size() > slowestSize) {
+                slowest.poll();
+            }
+            if (slowest.size() >= slowestSize) {
+                slowestFloorNanos = Math.max(slowThresholdNanos, slowest.peek().durationNanos());
+            }
+        }
+    }
+
+    private boolean isSlowestFull() {
+        synchronized (slowest) {
+            return slowest.size() >= slowestSize;
+        }
+    }
+
+    List<EndpointSnapshot> endpointSnapshots() {
+        List<EndpointSnapshot> snapshots = new ArrayList<>();
+        for (EndpointQueries stats : endpoints.values()) {
+            snapshots.add(stats.snapshot());
+        }
+        snapshots.sort(Comparator.comparingDouble(EndpointSnapshot::averageStatements).reversed());
+        return snapshots;
+    }
+
+    List<SlowQuery> slowestQueries() {
+        synchronized (slowest) {
+            List<SlowQuery> queries = new ArrayList<>(slowest);
+            queries.sort(Comparator.comparingLong(SlowQuery::durationNanos).reversed());
+            return queries;
+        }
+    }
+
+    void reset() {
+        endpoints.values().forEach(EndpointQueries::reset);
+        synchronized (slowest) {
+            slowest.clear();
+            slowestFloorNanos = slowThresholdNanos;
+        }
+    }
+
+    int perRequestThreshold() {
+        return perRequestThreshold;
+    }
+
+    long slowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    private static String truncate(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        return sql.length() <= MAX_SQL_LENGTH ? sql : sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    /**
+     * 요청 하나의 집계 (fan-out 스레드와 공유하므로 원자적 필드 사용)
+     */
+    static final class RequestQueries {
+        private final AtomicInteger statements = new AtomicInteger();
+        private final AtomicLong nanos = new AtomicLong();
+        private final String label;
+
+        private RequestQueries(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * 엔드포인트별 누적 통계와 Micrometer 메트릭
+     */
+    private final class EndpointQueries {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder overThreshold = new LongAdder();
+        private final AtomicInteger maxStatements = new AtomicInteger();
+        private final String endpoint;
+        private final DistributionSummary statementsPerRequest;
+        private final Counter overThresholdCounter;
+
+        EndpointQueries(String method, String uri) {
+            this.endpoint = method + " " + uri;
+            this.statementsPerRequest = DistributionSummary.builder("http.server.requests.statements")
+                    .description("요청당 JDBC 문 실행 수")
+                    .tags("method", method, "uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.overThresholdCounter = Counter.builder("http.server.requests.statements.over-threshold")
+                    .description("요청당 JDBC 문 실행 수 기준을 넘은 요청 수")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry);
+        }
+
+        void record(int count, long statementNanos) {
+            requests.increment();
+            statements.add(count);
+            nanos.add(statementNanos);
+            maxStatements.accumulateAndGet(count, Math::max);
+            statementsPerRequest.record(count);
+            if (count > perRequestThreshold) {
+                overThreshold.increment();
+                overThresholdCounter.increment();
+            }
+        }
+
+        void reset() {
+            requests.reset();
+            statements.reset();
+            nanos.reset();
+            overThreshold.reset();
+            maxStatements.set(0);
+        }
+
+        EndpointSnapshot snapshot() {
+            long requestCount = requests.sum();
+            return new EndpointSnapshot(
+                    endpoint,
+                    requestCount,
+                    requestCount == 0 ? 0 : (double) statements.sum() / requestCount,
+                    maxStatements.get(),
+                    overThreshold.sum(),
+                    requestCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(nanos.sum() / requestCount) / 1000.0);
+        }
+    }
+
+    /**
+     * 엔드포인트별 요청당 SQL 통계 (reset 이후 누적)
+     */
+    public record EndpointSnapshot(String endpoint, long requests, double averageStatements, int maxStatements,
+                                   long overThreshold, double averageSqlMillis) {}
+
+    /**
+     * 느린 쿼리 한 건
+     */
+    public record SlowQuery(String sql, long durationNanos, String endpoint, Instant executedAt, String thread) {
+
+        public double durationMillis() {
+            return durationNanos / 1_000_000.0;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package PitterPatter.loventure.authService.repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import PitterPatter.loventure.authService.dto.MyPageCoupleView;
+
 @Repository
 public interface CoupleRoomRepository extends JpaRepository<CoupleRoom, String> {
 
@@ -27,7 +30,17 @@ public interface CoupleRoomRepository extends JpaRepository<CoupleRoom, String>
 
     boolean existsByPartnerUserIdAndStatus(String partnerUserId, CoupleRoom.CoupleStatus status);
 
+    // 생성자/파트너 여부와 상태 목록을 한 번의 쿼리로 확인
+    @Query("SELECT COUNT(c) > 0 FROM CoupleRoom c WHERE (c.creatorUserId = :providerId OR c.partnerUserId = :providerId) AND c.status IN :statuses")
+    boolean existsByMemberAndStatusIn(@Param("providerId") String providerId, @Param("statuses") Collection<CoupleRoom.CoupleStatus> statuses);
+
     @Query("SELECT c FROM CoupleRoom c WHERE (c.creatorUserId = :providerId OR c.partnerUserId = :providerId) AND c.status = :status")
     Optional<CoupleRoom> findByCreatorUserIdOrPartnerUserIdAndStatus(@Param("providerId") String providerId, @Param("status") CoupleRoom.CoupleStatus status);
+
+    // 커플룸 + 파트너(상대방) 사용자를 한 번의 조인 쿼리로 조회 (마이페이지용)
+    @Query("SELECT new PitterPatter.loventure.authService.dto.MyPageCoupleView(c, p) FROM CoupleRoom c " +
+           "LEFT JOIN User p ON p.providerId = CASE WHEN c.creatorUserId = :providerId THEN c.partnerUserId ELSE c.creatorUserId END " +
+           "WHERE (c.creatorUserId = :providerId OR c.partnerUserId = :providerId) AND c.status = :status")
+    Optional<MyPageCoupleView> findCoupleViewByMemberAndStatus(@Param("providerId") String providerId, @Param("status") CoupleRoom.CoupleStatus status);
 }
 
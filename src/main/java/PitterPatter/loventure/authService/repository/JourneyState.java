@@ -0,0 +1,31 @@
+package PitterPatter.loventure.authService.repository;
+
+/**
+ * 사용자 진행 단계 (리다이렉트 결정용)
+ * 온보딩 → 커플 매칭 → rock 순서로 진행되며, 선언 순서가 곧 진행 순서
+ */
+public enum JourneyState {
+    ONBOARDING_REQUIRED,
+    COUPLE_MATCHING_REQUIRED,
+    ROCK_REQUIRED,
+    COMPLETED;
+
+    public static JourneyState of(boolean onboardingCompleted, boolean coupled, boolean rockCompleted) {
+        if (!onboardingCompleted) {
+            return ONBOARDING_REQUIRED;
+        }
+        if (!coupled) {
+            return COUPLE_MATCHING_REQUIRED;
+        }
+        return rockCompleted ? COMPLETED : ROCK_REQUIRED;
+    }
+
+    public boolean isOnboardingCompleted() {
+        return this != ONBOARDING_REQUIRED;
+    }
+
+    // 온보딩 미완료 단계에서는 커플 여부를 판단하지 않으므로 false
+    public boolean isCoupled() {
+        return this == ROCK_REQUIRED || this == COMPLETED;
+    }
+}
@@ -18,6 +18,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
@@ -34,7 +35,10 @@ import lombok.Setter; // Setter 추가
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 내부 변경 피드의 키셋 페이지네이션용 (updatedAt, userId)
+        @Index(name = "idx_users_updated_at_user_id", columnList = "updatedAt, userId")
+})
 public class User {
 
     @Id
@@ -99,6 +103,12 @@ public class User {
     @Column(name = "rock_completed_at")
     private LocalDateTime rockCompletedAt;
 
+    // 리다이렉트 결정용 진행 단계 (JourneyStateService에서 갱신)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "journey_state", length = 32)
+    @Builder.Default
+    private JourneyState journeyState = JourneyState.ONBOARDING_REQUIRED;
+
     @PrePersist
     public void createUserId() {
         if (this.userId == null) {
@@ -132,6 +142,22 @@ public class User {
         this.favoriteFoodCategories = favoriteFoodCategories;
         this.dateCostPreference = dateCostPreference;
         this.preferredAtmosphere = preferredAtmosphere;
+        markUpdated();
+    }
+
+    // 개인 온보딩(선호도 정보) 완료 여부
+    public boolean isOnboardingCompleted() {
+        return alcoholPreference != null &&
+               activeBound != null &&
+               favoriteFoodCategories != null &&
+               !favoriteFoodCategories.isEmpty() &&
+               dateCostPreference != null &&
+               preferredAtmosphere != null;
+    }
+
+    // 선호 음식 컬렉션만 변경된 경우에도 엔티티를 변경 상태로 만들어 updatedAt(ETag 버전)이 갱신되도록 함
+    public void markUpdated() {
+        this.updatedAt = LocalDateTime.now();
     }
     
     // 프로필 수정을 위한 setter 메서드들
@@ -153,6 +179,7 @@ public class User {
     
     public void setFavoriteFoodCategories(List<FavoriteFoodCategories> favoriteFoodCategories) {
         this.favoriteFoodCategories = favoriteFoodCategories;
+        markUpdated();
     }
     
     public void setDateCostPreference(DateCostPreference dateCostPreference) {
@@ -170,4 +197,8 @@ public class User {
     public void setRockCompletedAt(LocalDateTime rockCompletedAt) {
         this.rockCompletedAt = rockCompletedAt;
     }
+
+    public void setJourneyState(JourneyState journeyState) {
+        this.journeyState = journeyState;
+    }
 }
@@ -1,13 +1,84 @@
 package PitterPatter.loventure.authService.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import PitterPatter.loventure.authService.dto.AuthContextView;
+import PitterPatter.loventure.authService.dto.MyPageVersion;
+import PitterPatter.loventure.authService.dto.UserJourneyView;
+import PitterPatter.loventure.authService.dto.UserLoginView;
+import PitterPatter.loventure.authService.dto.response.UserChangeResponse;
+import PitterPatter.loventure.authService.dto.response.UserInfoResponse;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
     User findByProviderId(String providerId);
     User findByEmail(String email);
     Optional<User> findByUserId(String userId);
+    boolean existsByEmail(String email);
+
+    // OAuth2 로그인용 사용자 + 활성 커플 ID 단일 조회
+    @Query("SELECT new PitterPatter.loventure.authService.dto.UserLoginView(u.userId, u.email, u.name, u.status, u.journeyState, u.isRockCompleted, c.coupleId) FROM User u " +
+           "LEFT JOIN CoupleRoom c ON (c.creatorUserId = u.providerId OR c.partnerUserId = u.providerId) AND c.status = :status " +
+           "WHERE u.providerId = :providerId")
+    Optional<UserLoginView> findLoginViewByProviderId(@Param("providerId") String providerId, @Param("status") CoupleRoom.CoupleStatus status);
+
+    // 제공자 프로필(email, name) 변경 반영 (엔티티 로딩 없이 단일 UPDATE)
+    @Modifying
+    @Query("UPDATE User u SET u.email = :email, u.name = :name, u.updatedAt = :updatedAt WHERE u.userId = :userId")
+    int updateProfileFromProvider(@Param("userId") String userId, @Param("email") String email,
+                                  @Param("name") String name, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 선호 음식 컬렉션까지 한 번에 조회 (지연 로딩 추가 쿼리 방지)
+    @EntityGraph(attributePaths = "favoriteFoodCategories")
+    @Query("SELECT u FROM User u WHERE u.providerId = :providerId")
+    User findWithFavoriteFoodsByProviderId(@Param("providerId") String providerId);
+
+    // 리다이렉트 결정용 진행 단계 조회 (엔티티/컬렉션 로딩 없이 필요한 컬럼만 조회)
+    @Query("SELECT new PitterPatter.loventure.authService.dto.UserJourneyView(u.userId, u.journeyState, u.isRockCompleted) FROM User u WHERE u.providerId = :providerId")
+    Optional<UserJourneyView> findJourneyByProviderId(@Param("providerId") String providerId);
+
+    // Gateway 인증 컨텍스트 조회 (사용자 + 활성 커플룸 + 일일 티켓)
+    @Query("SELECT new PitterPatter.loventure.authService.dto.AuthContextView(u.userId, u.status, u.journeyState, c.coupleId, c.ticketCount, cp.isTodayTicket) FROM User u " +
+           "LEFT JOIN CoupleRoom c ON (c.creatorUserId = u.providerId OR c.partnerUserId = u.providerId) AND c.status = :status " +
+           "LEFT JOIN Couple cp ON cp.coupleId = c.coupleId " +
+           "WHERE u.providerId = :providerId")
+    Optional<AuthContextView> findAuthContextByProviderId(@Param("providerId") String providerId, @Param("status") CoupleRoom.CoupleStatus status);
+
+    // 마이페이지 ETag 검증용 버전 조회 (사용자, 활성 커플룸, 파트너의 updatedAt만 조회)
+    @Query("SELECT new PitterPatter.loventure.authService.dto.MyPageVersion(u.updatedAt, c.updatedAt, p.updatedAt) FROM User u " +
+           "LEFT JOIN CoupleRoom c ON (c.creatorUserId = u.providerId OR c.partnerUserId = u.providerId) AND c.status = :status " +
+           "LEFT JOIN User p ON p.providerId = CASE WHEN c.creatorUserId = u.providerId THEN c.partnerUserId ELSE c.creatorUserId END " +
+           "WHERE u.providerId = :providerId")
+    Optional<MyPageVersion> findMyPageVersionByProviderId(@Param("providerId") String providerId, @Param("status") CoupleRoom.CoupleStatus status);
+
+    // 토큰 일괄 검증용 활성 사용자 조회 (providerId만 조회)
+    @Query("SELECT u.providerId FROM User u WHERE u.providerId IN :providerIds AND u.status = :status")
+    List<String> findProviderIdsByStatus(@Param("providerIds") Collection<String> providerIds, @Param("status") AccountStatus status);
+
+    // 내부 서비스용 일괄 조회 (userId, name만 조회하는 슬림 프로젝션)
+    @Query("SELECT new PitterPatter.loventure.authService.dto.response.UserInfoResponse(u.userId, u.name) FROM User u WHERE u.userId IN :userIds")
+    List<UserInfoResponse> findUserInfosByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    // 변경 피드 첫 페이지 (updatedAt, userId 복합 인덱스 순서로 조회, until 이후 변경은 제외)
+    @Query("SELECT new PitterPatter.loventure.authService.dto.response.UserChangeResponse(u.userId, u.name, u.nickname, u.status, u.updatedAt) FROM User u " +
+           "WHERE u.updatedAt IS NOT NULL AND u.updatedAt <= :until ORDER BY u.updatedAt, u.userId")
+    List<UserChangeResponse> findChanges(@Param("until") LocalDateTime until, Pageable pageable);
+
+    // 변경 피드 다음 페이지 (커서 이후 ~ until 이전의 (updatedAt, userId)만 키셋 조회)
+    @Query("SELECT new PitterPatter.loventure.authService.dto.response.UserChangeResponse(u.userId, u.name, u.nickname, u.status, u.updatedAt) FROM User u " +
+           "WHERE (u.updatedAt > :updatedAt OR (u.updatedAt = :updatedAt AND u.userId > :userId)) AND u.updatedAt <= :until " +
+           "ORDER BY u.updatedAt, u.userId")
+    List<UserChangeResponse> findChangesAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("userId") String userId,
+                                              @Param("until") LocalDateTime until, Pageable pageable);
 }
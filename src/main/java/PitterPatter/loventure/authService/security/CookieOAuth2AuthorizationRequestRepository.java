@@ -1,12 +1,7 @@
 package PitterPatter.loventure.authService.security;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.util.Base64;
-
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
 import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 import org.springframework.stereotype.Component;
@@ -15,36 +10,43 @@ import org.springframework.util.StringUtils;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-
+/**
+ * 쿠키 기반 OAuth2 인증 요청 저장소
+ * oauth2.authorization-request.store=cookie 이거나 설정이 없을 때 사용 (기본값)
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "oauth2.authorization-request.store", havingValue = "cookie", matchIfMissing = true)
 public class CookieOAuth2AuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
     
     private static final String OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME = "oauth2_auth_request";
     private static final String REDIRECT_URI_PARAM_COOKIE_NAME = "redirect_uri";
     private static final int COOKIE_EXPIRE_SECONDS = 600; // 10분
+
+    // Java 직렬화 대신 서명된 compact 코덱 사용
+    private final OAuth2AuthorizationRequestCodec codec;
+
+    @Value("${spring.jwt.cookie.secure:false}")
+    private boolean cookieSecure;
     
     @Override
     public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
         log.debug("OAuth2 인증 요청 로드 시도");
         
-        try {
-            Cookie cookie = getCookie(request, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME);
-            if (cookie == null) {
-                log.debug("OAuth2 인증 요청 쿠키를 찾을 수 없음");
-                return null;
-            }
-            
-            OAuth2AuthorizationRequest authRequest = deserialize(cookie.getValue(), OAuth2AuthorizationRequest.class);
-            log.debug("OAuth2 인증 요청 로드 성공: {}", authRequest != null ? authRequest.getState() : "null");
-            return authRequest;
-            
-        } catch (IOException | ClassNotFoundException e) {
-            log.error("OAuth2 인증 요청 로드 중 오류 발생: {}", e.getMessage(), e);
+        Cookie cookie = getCookie(request, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME);
+        if (cookie == null) {
+            log.debug("OAuth2 인증 요청 쿠키를 찾을 수 없음");
             return null;
         }
+
+        // 서명 불일치, 만료, 형식 오류는 null (인증 요청 없음으로 처리)
+        OAuth2AuthorizationRequest authRequest = codec.decode(cookie.getValue());
+        log.debug("OAuth2 인증 요청 로드 결과: {}", authRequest != null ? authRequest.getState() : "null");
+        return authRequest;
     }
     
     @Override
@@ -53,29 +55,24 @@ public class CookieOAuth2AuthorizationRequestRepository implements Authorization
                                        HttpServletResponse response) {
         log.debug("OAuth2 인증 요청 저장 시도: {}", authorizationRequest != null ? authorizationRequest.getState() : "null");
         
-        try {
-            if (authorizationRequest == null) {
-                log.debug("인증 요청이 null이므로 쿠키 삭제");
-                removeAuthorizationRequestCookies(request, response);
-                return;
-            }
-            
-            // 인증 요청을 쿠키에 저장
-            String serializedAuthRequest = serialize(authorizationRequest);
-            addCookie(response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME, serializedAuthRequest, COOKIE_EXPIRE_SECONDS);
-            
-            // 리다이렉트 URI도 저장 (선택사항)
-            String redirectUriAfterLogin = request.getParameter(REDIRECT_URI_PARAM_COOKIE_NAME);
-            if (StringUtils.hasText(redirectUriAfterLogin)) {
-                addCookie(response, REDIRECT_URI_PARAM_COOKIE_NAME, redirectUriAfterLogin, COOKIE_EXPIRE_SECONDS);
-                log.debug("리다이렉트 URI 저장: {}", redirectUriAfterLogin);
-            }
-            
-            log.debug("OAuth2 인증 요청 저장 완료");
-            
-        } catch (IOException e) {
-            log.error("OAuth2 인증 요청 저장 중 오류 발생: {}", e.getMessage(), e);
+        if (authorizationRequest == null) {
+            log.debug("인증 요청이 null이므로 쿠키 삭제");
+            removeAuthorizationRequestCookies(request, response);
+            return;
         }
+
+        // 인증 요청을 쿠키에 저장
+        String encodedAuthRequest = codec.encode(authorizationRequest);
+        addCookie(response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME, encodedAuthRequest, COOKIE_EXPIRE_SECONDS);
+
+        // 리다이렉트 URI도 저장 (선택사항)
+        String redirectUriAfterLogin = request.getParameter(REDIRECT_URI_PARAM_COOKIE_NAME);
+        if (StringUtils.hasText(redirectUriAfterLogin)) {
+            addCookie(response, REDIRECT_URI_PARAM_COOKIE_NAME, redirectUriAfterLogin, COOKIE_EXPIRE_SECONDS);
+            log.debug("리다이렉트 URI 저장: {}", redirectUriAfterLogin);
+        }
+
+        log.debug("OAuth2 인증 요청 저장 완료 (크기: {} bytes)", encodedAuthRequest.length());
     }
     
     @Override
@@ -105,8 +102,7 @@ public class CookieOAuth2AuthorizationRequestRepository implements Authorization
         cookie.setPath("/");
         cookie.setHttpOnly(true);
         cookie.setMaxAge(maxAge);
-        // HTTPS 환경에서는 true로 설정하되, 개발 환경에서는 false
-        cookie.setSecure(false); // 배포 환경에서도 일단 false로 설정하여 테스트
+        cookie.setSecure(cookieSecure); // 환경별 설정 사용 (refresh_token 쿠키와 동일)
         response.addCookie(cookie);
         log.debug("쿠키 추가: {} (maxAge: {})", name, maxAge);
     }
@@ -133,22 +129,4 @@ public class CookieOAuth2AuthorizationRequestRepository implements Authorization
         }
         return null;
     }
-
-    private String serialize(Object obj) throws IOException {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             ObjectOutputStream oos = new ObjectOutputStream(baos)) {
-            oos.writeObject(obj);
-            return Base64.getUrlEncoder().encodeToString(baos.toByteArray());
-        }
-    }
-    
-
-    @SuppressWarnings("unchecked")
-    private <T> T deserialize(String str, Class<T> clazz) throws IOException, ClassNotFoundException {
-        byte[] data = Base64.getUrlDecoder().decode(str);
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(data);
-             ObjectInputStream ois = new ObjectInputStream(bais)) {
-            return (T) ois.readObject();
-        }
-    }
 }
@@ -0,0 +1,386 @@
+package PitterPatter.loventure.authService.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Date;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+/**
+ * 고정된 클레임 구성에 특화된 HS256 JWT 서명/검증기
+ * - 스레드별 Mac 재사용 (토큰마다 Mac.getInstance 하지 않음)
+ * - 헤더({"alg":"HS256"})는 미리 인코딩해 둠
+ * - 클레임 JSON을 직접 작성/파싱 (Jackson, jjwt 빌더/Map 생성 없음)
+ * - 출력은 jjwt 0.11과 바이트 단위로 같아야 하며, JWTUtil이 시작 시 비교해 다르면 사용하지 않음
+ * - 처리할 수 없는 형태(다른 헤더, 중첩 JSON 등)는 parse에서 null을 반환해 jjwt로 넘김
+ */
+final class Hs256TokenCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    static final String ENCODED_HEADER = ENCODER.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+    private static final byte[] SIGNING_INPUT_PREFIX = (ENCODED_HEADER + ".").getBytes(StandardCharsets.US_ASCII);
+
+    private final ThreadLocal<Mac> macs;
+
+    Hs256TokenCodec(byte[] secret) {
+        SecretKeySpec key = new SecretKeySpec(secret, "HmacSHA256");
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256을 초기화할 수 없습니다", e);
+            }
+        });
+    }
+
+    /**
+     * 클레임 순서대로 JSON을 작성해 서명 (null 값 클레임은 jjwt처럼 생략)
+     */
+    String sign(ClaimSet claims) {
+        StringBuilder json = new StringBuilder(256).append('{');
+        for (int i = 0; i < claims.size; i++) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            appendString(json, claims.names[i]);
+            json.append(':');
+            Object value = claims.values[i];
+            if (value instanceof String s) {
+                appendString(json, s);
+            } else {
+                json.append(((Number) value).longValue());
+            }
+        }
+        json.append('}');
+
+        byte[] payload = ENCODER.encode(json.toString().getBytes(StandardCharsets.UTF_8));
+        Mac mac = macs.get();
+        mac.update(SIGNING_INPUT_PREFIX);
+        mac.update(payload);
+        byte[] signature = ENCODER.encode(mac.doFinal());
+
+        byte[] token = new byte[SIGNING_INPUT_PREFIX.length + payload.length + 1 + signature.length];
+        System.arraycopy(SIGNING_INPUT_PREFIX, 0, token, 0, SIGNING_INPUT_PREFIX.length);
+        System.arraycopy(payload, 0, token, SIGNING_INPUT_PREFIX.length, payload.length);
+        token[SIGNING_INPUT_PREFIX.length + payload.length] = '.';
+        System.arraycopy(signature, 0, token, SIGNING_INPUT_PREFIX.length + payload.length + 1, signature.length);
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 서명/만료 검증 후 클레임 추출
+     * @return 이 코덱이 처리하지 않는 형태면 null (호출 측에서 jjwt로 처리)
+     * @throws SignatureException 서명 불일치
+     * @throws ExpiredJwtException 만료
+     * @throws MalformedJwtException Base64URL 형식 오류
+     */
+    TokenClaims parse(String token) {
+        if (!token.startsWith(ENCODED_HEADER) || token.length() <= ENCODED_HEADER.length()
+                || token.charAt(ENCODED_HEADER.length()) != '.') {
+            return null;
+        }
+        int payloadStart = ENCODED_HEADER.length() + 1;
+        int signatureStart = token.indexOf('.', payloadStart);
+        if (signatureStart < 0 || token.indexOf('.', signatureStart + 1) >= 0) {
+            return null;
+        }
+
+        byte[] expected;
+        byte[] actual;
+        byte[] payloadJson;
+        try {
+            Mac mac = macs.get();
+            mac.update(token.substring(0, signatureStart).getBytes(StandardCharsets.US_ASCII));
+            expected = mac.doFinal();
+            actual = DECODER.decode(token.substring(signatureStart + 1));
+            payloadJson = DECODER.decode(token.substring(payloadStart, signatureStart));
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("JWT Base64URL 형식이 잘못되었습니다", e);
+        }
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new SignatureException("JWT signature does not match locally computed signature.");
+        }
+
+        TokenClaims claims = new ClaimsReader(new String(payloadJson, StandardCharsets.UTF_8)).read();
+        if (claims != null && claims.expiration() != null && System.currentTimeMillis() > claims.expiration().getTime()) {
+            throw new ExpiredJwtException(null, null, "JWT expired at " + claims.expiration().toInstant());
+        }
+        return claims;
+    }
+
+    // Jackson 기본 설정과 같은 방식으로 문자열 이스케이프
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\b' -> json.append("\\b");
+                case '\f' -> json.append("\\f");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04X", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * 서명할 클레임 (입력 순서 유지, jjwt 빌더에도 같은 순서로 적용 가능)
+     */
+    static final class ClaimSet {
+
+        private final String[] names = new String[8];
+        private final Object[] values = new Object[8];
+        private int size;
+
+        ClaimSet string(String name, String value) {
+            return add(name, value);
+        }
+
+        ClaimSet number(String name, Long value) {
+            return add(name, value);
+        }
+
+        int size() {
+            return size;
+        }
+
+        String name(int index) {
+            return names[index];
+        }
+
+        Object value(int index) {
+            return values[index];
+        }
+
+        private ClaimSet add(String name, Object value) {
+            if (value != null) {
+                names[size] = name;
+                values[size] = value;
+                size++;
+            }
+            return this;
+        }
+    }
+
+    /**
+     * 평평한 JSON 객체(문자열/정수/불리언/null 값)만 읽는 파서
+     * 그 밖의 형태나 알려진 클레임의 타입이 다르면 null 반환
+     */
+    private static final class ClaimsReader {
+
+        private final String json;
+        private int pos;
+
+        private String subject;
+        private String tokenId;
+        private String userId;
+        private String coupleId;
+        private String type;
+        private String deviceId;
+        private String familyId;
+        private Long epoch;
+        private Long issuedAt;
+        private Long expiration;
+
+        ClaimsReader(String json) {
+            this.json = json;
+        }
+
+        TokenClaims read() {
+            skipWhitespace();
+            if (!consume('{')) {
+                return null;
+            }
+            skipWhitespace();
+            if (!consume('}')) {
+                do {
+                    skipWhitespace();
+                    String name = readString();
+                    skipWhitespace();
+                    if (name == null || !consume(':')) {
+                        return null;
+                    }
+                    skipWhitespace();
+                    if (!readValue(name)) {
+                        return null;
+                    }
+                    skipWhitespace();
+                } while (consume(','));
+                if (!consume('}')) {
+                    return null;
+                }
+            }
+            skipWhitespace();
+            if (pos != json.length()) {
+                return null;
+            }
+            return new TokenClaims(subject, tokenId, userId, coupleId, type, deviceId, familyId, epoch,
+                    issuedAt != null ? new Date(issuedAt * 1000) : null,
+                    expiration != null ? new Date(expiration * 1000) : null);
+        }
+
+        private boolean readValue(String name) {
+            if (pos >= json.length()) {
+                return false;
+            }
+            char c = json.charAt(pos);
+            if (c == '"') {
+                String value = readString();
+                if (value == null) {
+                    return false;
+                }
+                switch (name) {
+                    case "sub" -> subject = value;
+                    case "jti" -> tokenId = value;
+                    case "userId" -> userId = value;
+                    case "coupleId" -> coupleId = value;
+                    case "type" -> type = value;
+                    case "did" -> deviceId = value;
+                    case "fid" -> familyId = value;
+                    case "epoch", "iat", "exp" -> {
+                        return false;
+                    }
+                    default -> { }
+                }
+                return true;
+            }
+            if (c == '-' || (c >= '0' && c <= '9')) {
+                Long value = readLong();
+                if (value == null) {
+                    return false;
+                }
+                switch (name) {
+                    case "epoch" -> epoch = value;
+                    case "iat" -> issuedAt = value;
+                    case "exp" -> expiration = value;
+                    case "sub", "jti", "userId", "coupleId", "type", "did", "fid" -> {
+                        return false;
+                    }
+                    default -> { }
+                }
+                return true;
+            }
+            if (json.startsWith("null", pos)) {
+                pos += 4;
+                return true;
+            }
+            if (json.startsWith("true", pos)) {
+                pos += 4;
+                return !isKnownClaim(name);
+            }
+            if (json.startsWith("false", pos)) {
+                pos += 5;
+                return !isKnownClaim(name);
+            }
+            return false; // 객체, 배열 등
+        }
+
+        private static boolean isKnownClaim(String name) {
+            return switch (name) {
+                case "sub", "jti", "userId", "coupleId", "type", "did", "fid", "epoch", "iat", "exp" -> true;
+                default -> false;
+            };
+        }
+
+        private String readString() {
+            if (!consume('"')) {
+                return null;
+            }
+            StringBuilder value = null;
+            int start = pos;
+            while (pos < json.length()) {
+                char c = json.charAt(pos++);
+                if (c == '"') {
+                    return value == null ? json.substring(start, pos - 1) : value.toString();
+                }
+                if (c == '\\') {
+                    if (value == null) {
+                        value = new StringBuilder(json.length()).append(json, start, pos - 1);
+                    }
+                    if (pos >= json.length()) {
+                        return null;
+                    }
+                    char escaped = json.charAt(pos++);
+                    switch (escaped) {
+                        case '"', '\\', '/' -> value.append(escaped);
+                        case 'b' -> value.append('\b');
+                        case 'f' -> value.append('\f');
+                        case 'n' -> value.append('\n');
+                        case 'r' -> value.append('\r');
+                        case 't' -> value.append('\t');
+                        case 'u' -> {
+                            if (pos + 4 > json.length()) {
+                                return null;
+                            }
+                            try {
+                                value.append((char) Integer.parseInt(json, pos, pos + 4, 16));
+                            } catch (NumberFormatException e) {
+                                return null;
+                            }
+                            pos += 4;
+                        }
+                        default -> {
+                            return null;
+                        }
+                    }
+                } else if (value != null) {
+                    value.append(c);
+                }
+            }
+            return null;
+        }
+
+        private Long readLong() {
+            int start = pos;
+            if (json.charAt(pos) == '-') {
+                pos++;
+            }
+            while (pos < json.length() && Character.isDigit(json.charAt(pos))) {
+                pos++;
+            }
+            if (pos < json.length() && (json.charAt(pos) == '.' || json.charAt(pos) == 'e' || json.charAt(pos) == 'E')) {
+                return null; // 실수는 처리하지 않음
+            }
+            try {
+                return Long.parseLong(json, start, pos, 10);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private void skipWhitespace() {
+            while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private boolean consume(char expected) {
+            if (pos < json.length() && json.charAt(pos) == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package PitterPatter.loventure.authService.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내부 서비스 간 호출 인증 필터 (/internal/**, /actuator/**)
+ * X-Internal-Token 헤더의 공유 서비스 토큰만 비교하며, JWT 파싱이나 DB 조회는 하지 않음
+ */
+@Slf4j
+public class InternalServiceTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_NAME = "X-Internal-Token";
+    public static final String ROLE_INTERNAL_SERVICE = "ROLE_INTERNAL_SERVICE";
+
+    private final byte[] expectedToken;
+
+    public InternalServiceTokenFilter(String expectedToken) {
+        this.expectedToken = expectedToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String token = request.getHeader(HEADER_NAME);
+
+        // 길이 정보도 노출하지 않도록 상수 시간 비교
+        if (token != null && MessageDigest.isEqual(expectedToken, token.getBytes(StandardCharsets.UTF_8))) {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "internal-service", null, List.of(new SimpleGrantedAuthority(ROLE_INTERNAL_SERVICE))));
+        } else if (token != null) {
+            log.warn("유효하지 않은 내부 서비스 토큰 - URI: {}", request.getRequestURI());
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -9,6 +9,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import PitterPatter.loventure.authService.dto.UserLoginView;
+import PitterPatter.loventure.authService.repository.AccountStatus;
+import PitterPatter.loventure.authService.repository.CoupleRoom;
 import PitterPatter.loventure.authService.repository.User;
 import PitterPatter.loventure.authService.repository.UserRepository;
 import jakarta.servlet.FilterChain;
@@ -21,9 +24,20 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
+
+    // 검증(또는 재발급)된 coupleId를 담는 요청 속성 (커플이 없으면 비어 있음)
+    public static final String COUPLE_ID_ATTRIBUTE = JWTFilter.class.getName() + ".coupleId";
+    // 이 필터가 토큰을 검증했음을 표시하는 요청 속성 (true면 COUPLE_ID_ATTRIBUTE가 null이어도 검증된 결과)
+    public static final String COUPLE_ID_VERIFIED_ATTRIBUTE = JWTFilter.class.getName() + ".coupleIdVerified";
+    // 커플 정보 변경으로 재발급된 Access Token 응답 헤더 (클라이언트는 이후 요청에 이 토큰 사용)
+    public static final String UPGRADED_TOKEN_HEADER = "X-Access-Token";
+
     // 로그인 후 인증 확인
     private final JWTUtil jwtUtil;
     private final UserRepository userRepository; // DB에서 사용자 정보를 조회하기 위함
+    private final TokenRevocationList tokenRevocationList; // 로그아웃/탈퇴로 폐기된 토큰 확인
+    private final TokenEpochService tokenEpochService; // 사용자 epoch 확인 (현재 epoch면 DB 조회 생략)
+    private final JWTFilterMetrics metrics; // 구간별 처리 시간, 오류 코드별 카운터
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
@@ -36,114 +50,210 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        // token 발견 시, JWTUtil 내의 isTokenExpired method를 불러와서
-        // 유효 기간 확인
-        String token = null;
+        // Authorization 헤더 형식 검증
+        if (authorization.split(" ").length < 2) {
+            log.warn("잘못된 Authorization 헤더 형식: {}", authorization);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String token = authorization.split(" ")[1];
+        if (token == null || token.trim().isEmpty()) {
+            log.warn("빈 토큰 값");
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 필터 자체 처리 시간만 측정 (다음 필터/컨트롤러 제외)
+        long startedAt = System.nanoTime();
         try {
-            // Authorization 헤더 형식 검증
-            if (authorization.split(" ").length < 2) {
-                log.warn("잘못된 Authorization 헤더 형식: {}", authorization);
-                filterChain.doFilter(request, response);
+            if (!authenticate(token, request, response)) {
                 return;
             }
-            
-            token = authorization.split(" ")[1];
-            if (token == null || token.trim().isEmpty()) {
-                log.warn("빈 토큰 값");
-                filterChain.doFilter(request, response);
-                return;
-            }
-            
+        } finally {
+            metrics.recordTotal(System.nanoTime() - startedAt);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 토큰 검증 후 SecurityContext 설정
+     * @return 다음 필터로 진행하면 true, 오류 응답을 작성했으면 false
+     */
+    private boolean authenticate(String token, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        try {
             log.info("JWT 토큰 추출: {}", token);
 
-            // 토큰 만료 확인
-            if (jwtUtil.isTokenExpired(token)) {
-                log.warn("만료된 JWT 토큰: {}", token);
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.setContentType("application/json;charset=UTF-8");
-                response.getWriter().write("{\"error\":\"JWT 토큰이 만료되었습니다\",\"code\":\"JWT_TOKEN_EXPIRED\"}");
-                return;
+            // 서명/만료 검증과 클레임 추출을 한 번에 (만료 시 ExpiredJwtException)
+            long parseStartedAt = System.nanoTime();
+            TokenClaims claims;
+            try {
+                claims = jwtUtil.parse(token);
+            } finally {
+                metrics.recordParse(System.nanoTime() - parseStartedAt);
             }
-
-            String providerId = jwtUtil.getUsername(token); // 토큰에서 providerId 추출
+            String providerId = claims.subject(); // 토큰에서 providerId 추출
             log.info("JWT에서 추출한 providerId: {}", providerId);
 
-            // providerId로 DB에서 사용자 조회
-            User user = userRepository.findByProviderId(providerId);
-            log.info("DB에서 조회한 사용자: {}", user != null ? user.getEmail() : "null");
-            
-            // 사용자가 존재하지 않는 경우 처리 -> 탈퇴 시 고려
-            if (user == null) {
-                log.warn("JWT 토큰에 해당하는 사용자를 찾을 수 없음: {}", providerId);
+            // 폐기된 토큰 확인 (Bloom filter 미러에 걸릴 때만 Redis 조회)
+            if (tokenRevocationList.isRevoked(claims)) {
+                log.warn("폐기된 JWT 토큰 - providerId: {}", providerId);
+                metrics.error("TOKEN_REVOKED");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write("{\"error\":\"사용자를 찾을 수 없습니다\",\"code\":\"USER_NOT_FOUND\"}");
-                return;
+                response.setContentType("application/json;charset=UTF-8");
+                response.getWriter().write("{\"error\":\"폐기된 JWT 토큰입니다\",\"code\":\"TOKEN_REVOKED\"}");
+                return false;
             }
-            
-            // 사용자 계정 상태 확인
-            if (user.getStatus() == null || !user.getStatus().name().equals("ACTIVE")) {
-                log.warn("비활성화된 사용자 계정: {}", providerId);
+
+            // 토큰 epoch 확인 (탈퇴, 전체 로그아웃, 커플 변경 시 증가)
+            // - 하한 미만이면 거부 (탈퇴, 전체 로그아웃)
+            // - 현재 epoch와 같으면 DB 조회 없이 신뢰
+            // - 하한 이상 현재 미만이면 (커플 변경) 현재 정보로 재발급해 X-Access-Token 헤더로 전달
+            // - 확인할 수 없으면 (epoch 클레임 없음, Redis 장애) DB로 상태 확인
+            TokenEpochService.EpochState epochState = null;
+            if (claims.epoch() != null) {
+                long epochStartedAt = System.nanoTime();
+                try {
+                    epochState = tokenEpochService.state(providerId);
+                } finally {
+                    metrics.recordEpoch(System.nanoTime() - epochStartedAt);
+                }
+            }
+            if (epochState != null && epochState.isRejected(claims.epoch())) {
+                log.warn("이전 epoch의 JWT 토큰 - providerId: {}, tokenEpoch: {}, floor: {}",
+                        providerId, claims.epoch(), epochState.floor());
+                metrics.error("TOKEN_EPOCH_STALE");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write("{\"error\":\"비활성화된 계정입니다\",\"code\":\"ACCOUNT_INACTIVE\"}");
-                return;
+                response.setContentType("application/json;charset=UTF-8");
+                response.getWriter().write("{\"error\":\"더 이상 유효하지 않은 JWT 토큰입니다\",\"code\":\"TOKEN_EPOCH_STALE\"}");
+                return false;
+            }
+
+            // JWT에서 coupleId 추출 (재발급 시 현재 coupleId로 교체)
+            String coupleId = claims.coupleId();
+
+            if (epochState != null && !epochState.isCurrent(claims.epoch())) {
+                // 사용자 + 활성 커플 ID를 한 번에 조회해 토큰 재발급
+                long lookupStartedAt = System.nanoTime();
+                UserLoginView view;
+                try {
+                    view = userRepository
+                            .findLoginViewByProviderId(providerId, CoupleRoom.CoupleStatus.ACTIVE)
+                            .orElse(null);
+                } finally {
+                    metrics.recordLookup(System.nanoTime() - lookupStartedAt);
+                }
+                if (view == null || view.status() != AccountStatus.ACTIVE) {
+                    log.warn("재발급 대상 사용자가 없거나 비활성 상태: {}", providerId);
+                    metrics.error("ACCOUNT_INACTIVE");
+                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    response.setContentType("application/json;charset=UTF-8");
+                    response.getWriter().write("{\"error\":\"비활성화된 계정입니다\",\"code\":\"ACCOUNT_INACTIVE\"}");
+                    return false;
+                }
+
+                coupleId = view.coupleId();
+                // 남은 수명은 그대로 유지 (재발급으로 세션이 연장되지 않도록)
+                long remainingMs = Math.max(1000L, claims.expiration().getTime() - System.currentTimeMillis());
+                String upgradedToken = jwtUtil.createJwtWithUserIdAndCoupleId(
+                        providerId, view.userId(), coupleId, epochState.current(), remainingMs);
+                response.setHeader(UPGRADED_TOKEN_HEADER, upgradedToken);
+                log.info("커플 정보 변경으로 JWT 재발급 - providerId: {}, coupleId: {}", providerId, coupleId);
+            } else if (epochState == null) {
+                // providerId로 DB에서 사용자 조회
+                long lookupStartedAt = System.nanoTime();
+                User user;
+                try {
+                    user = userRepository.findByProviderId(providerId);
+                } finally {
+                    metrics.recordLookup(System.nanoTime() - lookupStartedAt);
+                }
+                log.info("DB에서 조회한 사용자: {}", user != null ? user.getEmail() : "null");
+
+                // 사용자가 존재하지 않는 경우 처리 -> 탈퇴 시 고려
+                if (user == null) {
+                    log.warn("JWT 토큰에 해당하는 사용자를 찾을 수 없음: {}", providerId);
+                    metrics.error("USER_NOT_FOUND");
+                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    response.getWriter().write("{\"error\":\"사용자를 찾을 수 없습니다\",\"code\":\"USER_NOT_FOUND\"}");
+                    return false;
+                }
+
+                // 사용자 계정 상태 확인
+                if (user.getStatus() == null || !user.getStatus().name().equals("ACTIVE")) {
+                    log.warn("비활성화된 사용자 계정: {}", providerId);
+                    metrics.error("ACCOUNT_INACTIVE");
+                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    response.getWriter().write("{\"error\":\"비활성화된 계정입니다\",\"code\":\"ACCOUNT_INACTIVE\"}");
+                    return false;
+                }
             }
 
             // UserDetails 객체 생성
             UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                    .username(user.getProviderId())
+                    .username(providerId)
                     .password("") // password는 사용하지 않으므로 비워둠
                     .authorities("ROLE_USER") // 권한 설정
                     .build();
 
             // MSA Gateway를 위한 헤더 추가
             response.setHeader("X-User-Id", providerId);
-            
-            // JWT에서 coupleId 추출
-            String coupleId = jwtUtil.getCoupleIdFromToken(token);
             response.setHeader("X-Couple-Id", coupleId != null ? coupleId : "null");
 
+            // 컨트롤러/서비스에서 토큰을 다시 파싱하거나 DB로 coupleId를 조회하지 않도록 전달
+            // null(커플 해제 후 재발급 등)도 검증된 결과이므로 검증 여부를 함께 기록
+            request.setAttribute(COUPLE_ID_ATTRIBUTE, coupleId);
+            request.setAttribute(COUPLE_ID_VERIFIED_ATTRIBUTE, Boolean.TRUE);
+
             // SecurityContext에 인증 정보 저장
             Authentication authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(authToken);
 
         } catch (io.jsonwebtoken.security.SignatureException e) {
             log.error("JWT 서명 검증 실패: {} - 토큰: {}", e.getMessage(), token);
+            metrics.error("INVALID_JWT_SIGNATURE");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.setContentType("application/json;charset=UTF-8");
             response.getWriter().write("{\"error\":\"JWT 서명이 유효하지 않습니다\",\"code\":\"INVALID_JWT_SIGNATURE\"}");
-            return;
+            return false;
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
             log.error("JWT 토큰 만료: {} - 토큰: {}", e.getMessage(), token);
+            metrics.error("JWT_TOKEN_EXPIRED");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.setContentType("application/json;charset=UTF-8");
             response.getWriter().write("{\"error\":\"JWT 토큰이 만료되었습니다\",\"code\":\"JWT_TOKEN_EXPIRED\"}");
-            return;
+            return false;
         } catch (IllegalArgumentException e) {
             log.error("JWT 토큰 형식 오류: {}", e.getMessage(), e);
+            metrics.error("INVALID_JWT_FORMAT");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.setContentType("application/json;charset=UTF-8");
             response.getWriter().write("{\"error\":\"JWT 토큰 형식이 잘못되었습니다\",\"code\":\"INVALID_JWT_FORMAT\"}");
-            return;
+            return false;
         } catch (SecurityException e) {
             log.error("JWT 보안 오류: {}", e.getMessage(), e);
+            metrics.error("JWT_SECURITY_ERROR");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.setContentType("application/json;charset=UTF-8");
             response.getWriter().write("{\"error\":\"JWT 보안 검증 실패\",\"code\":\"JWT_SECURITY_ERROR\"}");
-            return;
+            return false;
         } catch (IOException e) {
             log.error("JWT 응답 작성 오류: {}", e.getMessage(), e);
+            metrics.error("INTERNAL_SERVER_ERROR");
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             response.setContentType("application/json;charset=UTF-8");
             response.getWriter().write("{\"error\":\"서버 내부 오류\",\"code\":\"INTERNAL_SERVER_ERROR\"}");
-            return;
+            return false;
         } catch (Exception e) {
             log.error("JWT 토큰 파싱 중 예상치 못한 오류 발생: {}", e.getMessage(), e);
+            metrics.error("INVALID_JWT_TOKEN");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.setContentType("application/json;charset=UTF-8");
             response.getWriter().write("{\"error\":\"JWT 토큰이 유효하지 않습니다\",\"code\":\"INVALID_JWT_TOKEN\"}");
-            return;
+            return false;
         }
 
-        filterChain.doFilter(request, response);
+        return true;
     }
 }
\ No newline at end of file
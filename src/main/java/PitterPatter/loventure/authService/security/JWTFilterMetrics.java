@@ -0,0 +1,68 @@
+package PitterPatter.loventure.authService.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * JWTFilter 구간별 타이머와 오류 코드별 카운터
+ * - auth.jwt.filter{phase=parse|epoch|lookup|total} : 서명/만료 검증, epoch 확인, DB 조회, 필터 전체 (다음 필터 제외)
+ * - auth.jwt.filter.errors{code} : 필터가 응답한 오류 코드 (고정된 값만 사용)
+ * 요청마다 등록 조회를 하지 않도록 미리 만들어 둠
+ */
+final class JWTFilterMetrics {
+
+    static final String TIMER_NAME = "auth.jwt.filter";
+    static final String ERROR_COUNTER_NAME = "auth.jwt.filter.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer parse;
+    private final Timer epoch;
+    private final Timer lookup;
+    private final Timer total;
+    private final Map<String, Counter> errors = new ConcurrentHashMap<>();
+
+    JWTFilterMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.parse = timer("parse");
+        this.epoch = timer("epoch");
+        this.lookup = timer("lookup");
+        this.total = timer("total");
+    }
+
+    void recordParse(long nanos) {
+        parse.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordEpoch(long nanos) {
+        epoch.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordLookup(long nanos) {
+        lookup.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordTotal(long nanos) {
+        total.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void error(String code) {
+        errors.computeIfAbsent(code, key -> Counter.builder(ERROR_COUNTER_NAME)
+                .description("JWTFilter 오류 응답 수")
+                .tag("code", key)
+                .register(meterRegistry))
+                .increment();
+    }
+
+    private Timer timer(String phase) {
+        return Timer.builder(TIMER_NAME)
+                .description("JWTFilter 구간별 처리 시간")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -1,84 +1,185 @@
 package PitterPatter.loventure.authService.security;
 
 import java.security.Key;
-import java.util.Base64; // Base64 import 추가
 import java.util.Date;
+import java.util.UUID;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
 @Slf4j
 public class JWTUtil {
     // 실제 JWT 생성하고 검증하는 class
-    private final Key key;
+    public static final long REFRESH_TOKEN_VALIDITY_MS = 14 * 24 * 60 * 60 * 1000L;
 
-    // JWTUtil class를 생성해서 application.yml 파일에 존재하는 키를 가져와 인코딩
-    // Base64 디코딩 로직 추가 (Gateway와 통일)
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
-        Key tempKey;
-        try {
-            // Base64 인코딩된 값 -> 바이트 배열로 디코딩 시도
-            byte[] decodedKey = Base64.getDecoder().decode(secret);
-            tempKey = Keys.hmacShaKeyFor(decodedKey);
-            log.info("JWT 시크릿 키를 Base64 디코딩하여 설정했습니다. 길이: {}", decodedKey.length);
-        } catch (IllegalArgumentException e) {
-            // Base64 디코딩 실패 시 원본 문자열을 UTF-8 바이트로 변환
-            tempKey = Keys.hmacShaKeyFor(secret.getBytes());
-            log.info("JWT 시크릿 키를 UTF-8 바이트로 변환하여 설정했습니다. 길이: {}", secret.getBytes().length);
-        }
-        this.key = tempKey;
+    private final JwtKeyRegistry keyRegistry;
+    // 파서는 불변이고 스레드 안전하므로 한 번만 생성해 재사용
+    // kid가 있으면 해당 공개키, 없으면 기존 HS256 공유 키로 검증
+    private final JwtParser parser;
+    // HS256 전용 서명/검증기 (jjwt 출력과 다르거나 kid 없는 HS256 토큰을 허용하지 않으면 null → 항상 jjwt 사용)
+    private final Hs256TokenCodec hs256Codec;
+
+    // 서명 키는 JwtKeyRegistry에서 관리 (spring.jwt.secret Base64 디코딩 로직 포함, Gateway와 통일)
+    public JWTUtil(JwtKeyRegistry keyRegistry) {
+        this.keyRegistry = keyRegistry;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keyRegistry.verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+        this.hs256Codec = keyRegistry.acceptsLegacyHs256() ? selfCheckedCodec(keyRegistry.hmacKey()) : null;
     }
 
     // userID를 포함한 JWT access token 생성
     public String createJwtWithUserId(String username, String userId, Long expiredMs) {
-        return Jwts.builder()
-                .setSubject(username)
-                .claim("userId", userId)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiredMs))
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+        long now = System.currentTimeMillis();
+        return sign(new Hs256TokenCodec.ClaimSet()
+                .string("sub", username)
+                .string("jti", UUID.randomUUID().toString()) // 폐기 목록 키
+                .string("userId", userId)
+                .number("iat", now / 1000)
+                .number("exp", (now + expiredMs) / 1000));
     }
 
-    // userId와 coupleId를 포함한 JWT access token 생성
-    public String createJwtWithUserIdAndCoupleId(String username, String userId, String coupleId, Long expiredMs) {
-        return Jwts.builder()
-                .setSubject(username)
-                .claim("userId", userId)
-                .claim("coupleId", coupleId)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiredMs))
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+    // userId, coupleId, 사용자 epoch를 포함한 JWT access token 생성
+    // epoch가 null이면(조회 실패) 클레임 생략 → JWTFilter에서 DB로 상태 확인
+    public String createJwtWithUserIdAndCoupleId(String username, String userId, String coupleId, Long epoch, Long expiredMs) {
+        long now = System.currentTimeMillis();
+        return sign(new Hs256TokenCodec.ClaimSet()
+                .string("sub", username)
+                .string("jti", UUID.randomUUID().toString()) // 폐기 목록 키
+                .string("userId", userId)
+                .string("coupleId", coupleId)
+                .number("epoch", epoch)
+                .number("iat", now / 1000)
+                .number("exp", (now + expiredMs) / 1000));
     }
 
     // Refresh token 생성 -> access token을 계속 사용하는 것은 보안상 좋지 않음
     // 따라서 만료 기간을 두고 토큰이 만료 시 refresh token으로 새롭게 발급
     public String createRefreshToken(String username) {
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + 14 * 24 * 60 * 60 * 1000L)) // 14일 (2주)
-                .claim("type", "refresh")
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+        long now = System.currentTimeMillis();
+        return sign(new Hs256TokenCodec.ClaimSet()
+                .string("sub", username)
+                .number("iat", now / 1000)
+                .number("exp", (now + REFRESH_TOKEN_VALIDITY_MS) / 1000) // 14일 (2주)
+                .string("type", "refresh"));
+    }
+
+    // 기기별 Refresh token 생성 (did: 기기 ID, fid: 토큰 패밀리 ID)
+    // 같은 기기에서 회전될 때마다 did, fid는 유지되고 토큰 값만 바뀜
+    public String createRefreshToken(String username, String deviceId, String familyId) {
+        long now = System.currentTimeMillis();
+        return sign(new Hs256TokenCodec.ClaimSet()
+                .string("sub", username)
+                .string("jti", UUID.randomUUID().toString()) // 같은 초에 회전되어도 토큰 값이 달라지도록
+                .number("iat", now / 1000)
+                .number("exp", (now + REFRESH_TOKEN_VALIDITY_MS) / 1000) // 14일 (2주)
+                .string("type", "refresh")
+                .string("did", deviceId)
+                .string("fid", familyId));
+    }
+
+    // 활성 키로 서명
+    // HS256이면 전용 서명기, 비대칭 키면 jjwt로 kid 헤더 포함해 서명
+    private String sign(Hs256TokenCodec.ClaimSet claims) {
+        if (hs256Codec != null && !keyRegistry.isAsymmetric()) {
+            return hs256Codec.sign(claims);
+        }
+        return signWithJjwt(claims);
+    }
+
+    private String signWithJjwt(Hs256TokenCodec.ClaimSet claims) {
+        JwtBuilder builder = Jwts.builder();
+        if (keyRegistry.isAsymmetric()) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, keyRegistry.signingKeyId());
+        }
+        for (int i = 0; i < claims.size(); i++) {
+            builder.claim(claims.name(i), claims.value(i));
+        }
+        return builder.signWith(keyRegistry.signingKey(), keyRegistry.signingAlgorithm()).compact();
+    }
+
+    // 서명/만료를 한 번에 검증하고 필요한 클레임을 모두 추출
+    // 검증 실패 시 jjwt 예외(ExpiredJwtException, SignatureException 등)를 그대로 던짐
+    // kid 없는 HS256 토큰은 전용 검증기로, 그 밖의 형태는 jjwt로 처리
+    public TokenClaims parse(String token) {
+        if (hs256Codec != null && keyRegistry.acceptsLegacyHs256()) {
+            TokenClaims claims = hs256Codec.parse(token);
+            if (claims != null) {
+                return claims;
+            }
+        }
+        return parseWithJjwt(token);
+    }
+
+    private TokenClaims parseWithJjwt(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        return new TokenClaims(
+                claims.getSubject(),
+                claims.getId(),
+                claims.get("userId", String.class),
+                claims.get("coupleId", String.class),
+                claims.get("type", String.class),
+                claims.get("did", String.class),
+                claims.get("fid", String.class),
+                claims.get("epoch", Long.class),
+                claims.getIssuedAt(),
+                claims.getExpiration());
+    }
+
+    // 전용 HS256 서명기가 jjwt와 같은 토큰을 만들고, jjwt 토큰을 같은 클레임으로 읽는지 시작 시 확인
+    private Hs256TokenCodec selfCheckedCodec(Key hmacKey) {
+        try {
+            Hs256TokenCodec codec = new Hs256TokenCodec(hmacKey.getEncoded());
+            long issuedAt = System.currentTimeMillis() / 1000;
+            Hs256TokenCodec.ClaimSet sample = new Hs256TokenCodec.ClaimSet()
+                    .string("sub", "self-check")
+                    .string("jti", UUID.randomUUID().toString())
+                    .string("userId", "1234567890")
+                    .string("coupleId", "self\"check\n")
+                    .number("epoch", 7L)
+                    .number("iat", issuedAt)
+                    .number("exp", issuedAt + 60);
+
+            JwtBuilder builder = Jwts.builder();
+            for (int i = 0; i < sample.size(); i++) {
+                builder.claim(sample.name(i), sample.value(i));
+            }
+            String expected = builder.signWith(hmacKey, SignatureAlgorithm.HS256).compact();
+
+            if (!expected.equals(codec.sign(sample)) || !parseWithJjwt(expected).equals(codec.parse(expected))) {
+                log.warn("HS256 전용 서명기 출력이 jjwt와 달라 jjwt를 사용합니다");
+                return null;
+            }
+            return codec;
+        } catch (RuntimeException e) {
+            log.warn("HS256 전용 서명기 확인 실패 - jjwt를 사용합니다: {}", e.getMessage());
+            return null;
+        }
     }
 
     // 인코딩된 token을 디코딩 하고 저장된 사용자 아이디 반환
     public String getUsername(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+        return parse(token).subject();
     }
 
     // 설정된 token 만료 시간을 현재 시간과 비교해 유효성 검사 진행
     public boolean isTokenExpired(String token) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getExpiration().before(new Date());
+            return parse(token).expiration().before(new Date());
         } catch (Exception e) {
             // 토큰 파싱 실패 시 만료된 것으로 간주
             return true;
@@ -87,11 +188,11 @@ public class JWTUtil {
 
     // JWT에서 userID 추출 (String 기반)
     public String getUserId(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("userId", String.class);
+        return parse(token).userId();
     }
 
     // JWT에서 coupleId 추출
     public String getCoupleIdFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("coupleId", String.class);
+        return parse(token).coupleId();
     }
 }
\ No newline at end of file
@@ -0,0 +1,221 @@
+package PitterPatter.loventure.authService.security;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 서명/검증 키 보관소
+ * - HS256: spring.jwt.secret 공유 키 (기존 방식, kid 없음)
+ * - RS256/ES256: kid별 비대칭 키, 활성 키로 서명하고 등록된 모든 공개키로 검증 (키 교체 지원)
+ * - kid가 없는 토큰은 마이그레이션 기간 동안 HS256 공유 키로 검증
+ *   (비대칭 방식에서 spring.jwt.signing.accept-legacy-hs256=false로 두면 거부해 기간을 끝냄)
+ * - 공개키는 JWKS(JSON Web Key Set)로 공개해 다른 서비스가 로컬에서 검증
+ */
+@Slf4j
+@Component
+public class JwtKeyRegistry {
+
+    private final SignatureAlgorithm signingAlgorithm;
+    private final Key hmacKey;
+    private final String activeKeyId;
+    private final PrivateKey activePrivateKey;
+    private final Map<String, PublicKey> publicKeys;
+    private final Map<String, Object> jwkSet;
+    private final boolean acceptLegacyHs256;
+
+    public JwtKeyRegistry(@Value("${spring.jwt.secret}") String secret, JwtSigningProperties properties) {
+        this.hmacKey = hmacKey(secret);
+        this.signingAlgorithm = SignatureAlgorithm.forName(properties.algorithm());
+
+        if (signingAlgorithm == SignatureAlgorithm.HS256) {
+            this.activeKeyId = null;
+            this.activePrivateKey = null;
+            this.publicKeys = Map.of();
+            this.jwkSet = Map.of("keys", List.of());
+            this.acceptLegacyHs256 = true; // 공유 키 방식에서는 kid 없는 토큰이 유일한 형태
+            log.info("JWT 서명 방식: HS256 (공유 키)");
+            return;
+        }
+        if (signingAlgorithm != SignatureAlgorithm.RS256 && signingAlgorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalStateException("지원하지 않는 JWT 서명 알고리즘입니다: " + properties.algorithm());
+        }
+
+        String keyAlgorithm = signingAlgorithm.getFamilyName(); // "RSA" 또는 "ECDSA"
+        KeyFactory keyFactory = keyFactory(signingAlgorithm == SignatureAlgorithm.RS256 ? "RSA" : "EC");
+
+        Map<String, PublicKey> loadedPublicKeys = new LinkedHashMap<>();
+        PrivateKey loadedPrivateKey = null;
+        for (JwtSigningProperties.KeyEntry entry : properties.keys()) {
+            if (entry.kid() == null || entry.publicKey() == null) {
+                throw new IllegalStateException("JWT 서명 키에는 kid와 public-key가 필요합니다");
+            }
+            loadedPublicKeys.put(entry.kid(), publicKey(keyFactory, entry.publicKey()));
+            if (entry.kid().equals(properties.activeKeyId())) {
+                if (entry.privateKey() == null) {
+                    throw new IllegalStateException("활성 JWT 서명 키에 private-key가 없습니다: " + entry.kid());
+                }
+                loadedPrivateKey = privateKey(keyFactory, entry.privateKey());
+            }
+        }
+        if (loadedPrivateKey == null) {
+            throw new IllegalStateException("활성 JWT 서명 키를 찾을 수 없습니다: " + properties.activeKeyId());
+        }
+
+        this.activeKeyId = properties.activeKeyId();
+        this.activePrivateKey = loadedPrivateKey;
+        this.publicKeys = Map.copyOf(loadedPublicKeys);
+        this.jwkSet = buildJwkSet(loadedPublicKeys);
+        this.acceptLegacyHs256 = properties.acceptLegacyHs256();
+        log.info("JWT 서명 방식: {} ({}) - 활성 kid: {}, 검증 키 수: {}, 기존 HS256 토큰 허용: {}",
+                signingAlgorithm.getValue(), keyAlgorithm, activeKeyId, publicKeys.size(), acceptLegacyHs256);
+    }
+
+    public boolean isAsymmetric() {
+        return activePrivateKey != null;
+    }
+
+    // kid 없는 HS256 토큰을 공유 키로 검증할지 여부
+    public boolean acceptsLegacyHs256() {
+        return acceptLegacyHs256;
+    }
+
+    public SignatureAlgorithm signingAlgorithm() {
+        return signingAlgorithm;
+    }
+
+    public Key signingKey() {
+        return isAsymmetric() ? activePrivateKey : hmacKey;
+    }
+
+    // 서명 시 헤더에 넣을 kid (HS256이면 null)
+    public String signingKeyId() {
+        return activeKeyId;
+    }
+
+    /**
+     * 토큰 헤더의 kid로 검증 키 결정 (kid가 없으면 기존 HS256 공유 키)
+     *
+     * @throws io.jsonwebtoken.security.SignatureException 등록되지 않은 kid이거나, 기존 HS256 토큰을 허용하지 않는데 kid가 없는 경우
+     */
+    public Key verificationKey(String kid) {
+        if (kid == null) {
+            if (!acceptLegacyHs256) {
+                throw new io.jsonwebtoken.security.SignatureException("kid 없는 HS256 토큰은 더 이상 허용되지 않습니다");
+            }
+            return hmacKey;
+        }
+        PublicKey publicKey = publicKeys.get(kid);
+        if (publicKey == null) {
+            throw new io.jsonwebtoken.security.SignatureException("등록되지 않은 JWT kid입니다: " + kid);
+        }
+        return publicKey;
+    }
+
+    public Key hmacKey() {
+        return hmacKey;
+    }
+
+    // 공개 JWKS ({"keys": [...]}), 시작 시 한 번만 생성
+    public Map<String, Object> jwkSet() {
+        return jwkSet;
+    }
+
+    // Base64 인코딩된 값 -> 바이트 배열로 디코딩 시도, 실패 시 UTF-8 바이트 사용 (Gateway와 통일)
+    private static Key hmacKey(String secret) {
+        try {
+            byte[] decodedKey = Base64.getDecoder().decode(secret);
+            log.info("JWT 시크릿 키를 Base64 디코딩하여 설정했습니다. 길이: {}", decodedKey.length);
+            return Keys.hmacShaKeyFor(decodedKey);
+        } catch (IllegalArgumentException e) {
+            log.info("JWT 시크릿 키를 UTF-8 바이트로 변환하여 설정했습니다. 길이: {}", secret.getBytes().length);
+            return Keys.hmacShaKeyFor(secret.getBytes());
+        }
+    }
+
+    private Map<String, Object> buildJwkSet(Map<String, PublicKey> keys) {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (Map.Entry<String, PublicKey> entry : keys.entrySet()) {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            if (entry.getValue() instanceof RSAPublicKey rsa) {
+                jwk.put("kty", "RSA");
+                jwk.put("n", base64Url(unsigned(rsa.getModulus(), 0)));
+                jwk.put("e", base64Url(unsigned(rsa.getPublicExponent(), 0)));
+            } else if (entry.getValue() instanceof ECPublicKey ec) {
+                jwk.put("kty", "EC");
+                jwk.put("crv", "P-256");
+                jwk.put("x", base64Url(unsigned(ec.getW().getAffineX(), 32)));
+                jwk.put("y", base64Url(unsigned(ec.getW().getAffineY(), 32)));
+            }
+            jwk.put("kid", entry.getKey());
+            jwk.put("use", "sig");
+            jwk.put("alg", signingAlgorithm.getValue());
+            jwks.add(Map.copyOf(jwk));
+        }
+        return Map.of("keys", List.copyOf(jwks));
+    }
+
+    // BigInteger의 부호 바이트를 제거하고, length > 0이면 고정 길이로 앞을 0으로 채움
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        int start = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+        int size = bytes.length - start;
+        byte[] result = new byte[Math.max(length, size)];
+        System.arraycopy(bytes, start, result, result.length - size, size);
+        return result;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static KeyFactory keyFactory(String algorithm) {
+        try {
+            return KeyFactory.getInstance(algorithm);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("KeyFactory 생성 실패: " + algorithm, e);
+        }
+    }
+
+    private static PublicKey publicKey(KeyFactory keyFactory, String encoded) {
+        try {
+            return keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 공개키를 읽을 수 없습니다", e);
+        }
+    }
+
+    private static PrivateKey privateKey(KeyFactory keyFactory, String encoded) {
+        try {
+            return keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 개인키를 읽을 수 없습니다", e);
+        }
+    }
+
+    // PEM 헤더/푸터와 공백을 제거한 뒤 Base64 DER 디코딩
+    private static byte[] decodePem(String pem) {
+        String base64 = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64.getBytes(StandardCharsets.US_ASCII));
+    }
+}
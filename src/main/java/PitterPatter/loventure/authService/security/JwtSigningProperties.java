@@ -0,0 +1,38 @@
+package PitterPatter.loventure.authService.security;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * JWT 서명 키 설정 (spring.jwt.signing.*)
+ *
+ * <pre>
+ * spring.jwt.signing:
+ *   algorithm: RS256            # HS256(기본, spring.jwt.secret 사용) | RS256 | ES256
+ *   active-key-id: 2025-10
+ *   keys:
+ *     - kid: 2025-10
+ *       private-key: MIIEv...   # PKCS#8 (PEM 또는 Base64 DER)
+ *       public-key: MIIBI...    # X.509 SubjectPublicKeyInfo
+ *     - kid: 2025-07            # 교체 전 키: 공개키만 두면 검증 전용
+ *       public-key: MIIBI...
+ *   accept-legacy-hs256: true   # kid 없는 HS256 토큰 허용 여부 (전환 완료 후 false, HS256 방식이면 무시)
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "spring.jwt.signing")
+public record JwtSigningProperties(
+        String algorithm,
+        String activeKeyId,
+        List<KeyEntry> keys,
+        Boolean acceptLegacyHs256
+) {
+
+    public JwtSigningProperties {
+        algorithm = algorithm == null || algorithm.isBlank() ? "HS256" : algorithm.trim().toUpperCase();
+        keys = keys == null ? List.of() : List.copyOf(keys);
+        acceptLegacyHs256 = acceptLegacyHs256 == null || acceptLegacyHs256;
+    }
+
+    public record KeyEntry(String kid, String privateKey, String publicKey) {}
+}
@@ -0,0 +1,46 @@
+package PitterPatter.loventure.authService.security;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import PitterPatter.loventure.authService.dto.LoginSnapshot;
+
+/**
+ * 로그인 스냅샷을 함께 전달하는 OAuth2User
+ * 제공자 속성과 이름 속성은 원래 OAuth2User에 위임
+ */
+public class LoginOAuth2User implements OAuth2User, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final OAuth2User delegate;
+    private final LoginSnapshot snapshot;
+
+    public LoginOAuth2User(OAuth2User delegate, LoginSnapshot snapshot) {
+        this.delegate = delegate;
+        this.snapshot = snapshot;
+    }
+
+    public LoginSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return delegate.getAttributes();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return delegate.getAuthorities();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+}
@@ -0,0 +1,238 @@
+package PitterPatter.loventure.authService.security;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OAuth2AuthorizationRequest 쿠키 코덱
+ * - Java 직렬화 대신 필요한 필드만 짧은 키의 JSON으로 인코딩 (역직렬화 가젯 위험 없음)
+ * - 압축이 더 작을 때만 Deflate 적용
+ * - HMAC-SHA256 서명 + 발급 시각으로 위변조/재사용 기간 제한
+ *
+ * 형식: base64url(flag + payload) "." base64url(hmac)
+ */
+@Slf4j
+@Component
+public class OAuth2AuthorizationRequestCodec {
+
+    private static final byte FLAG_PLAIN = 0;
+    private static final byte FLAG_DEFLATE = 1;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    // 서명 키를 JWT 서명과 분리하기 위한 용도 라벨
+    private static final byte[] KEY_LABEL = "oauth2-authorization-request.v1".getBytes(StandardCharsets.UTF_8);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec signingKey;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    @Autowired
+    public OAuth2AuthorizationRequestCodec(ObjectMapper objectMapper,
+                                           @Value("${oauth2.cookie.signing-key:${spring.jwt.secret}}") String signingSecret) {
+        this(objectMapper, signingSecret, Duration.ofMinutes(10), Clock.systemUTC());
+    }
+
+    OAuth2AuthorizationRequestCodec(ObjectMapper objectMapper, String signingSecret, Duration maxAge, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.signingKey = new SecretKeySpec(hmac(
+                new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM), KEY_LABEL), HMAC_ALGORITHM);
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    /**
+     * 인증 요청을 서명된 쿠키 값으로 인코딩
+     */
+    public String encode(OAuth2AuthorizationRequest authorizationRequest) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("t", clock.instant().getEpochSecond());
+        fields.put("u", authorizationRequest.getAuthorizationUri());
+        fields.put("c", authorizationRequest.getClientId());
+        fields.put("r", authorizationRequest.getRedirectUri());
+        fields.put("s", String.join(" ", authorizationRequest.getScopes()));
+        fields.put("st", authorizationRequest.getState());
+        if (!authorizationRequest.getAdditionalParameters().isEmpty()) {
+            fields.put("p", authorizationRequest.getAdditionalParameters());
+        }
+        if (!authorizationRequest.getAttributes().isEmpty()) {
+            fields.put("a", authorizationRequest.getAttributes());
+        }
+        fields.put("ru", authorizationRequest.getAuthorizationRequestUri());
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(fields);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("OAuth2 인증 요청 인코딩 실패", e);
+        }
+
+        // 압축 결과가 더 작을 때만 사용
+        byte[] deflated = deflate(json);
+        byte[] payload = deflated.length < json.length
+                ? prepend(FLAG_DEFLATE, deflated)
+                : prepend(FLAG_PLAIN, json);
+
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(hmac(signingKey, payload));
+    }
+
+    /**
+     * 쿠키 값을 검증 후 인증 요청으로 디코딩
+     *
+     * @return 형식 오류, 서명 불일치, 만료인 경우 null
+     */
+    public OAuth2AuthorizationRequest decode(String value) {
+        try {
+            int separator = value.indexOf('.');
+            if (separator <= 0) {
+                return null;
+            }
+            byte[] payload = DECODER.decode(value.substring(0, separator));
+            byte[] signature = DECODER.decode(value.substring(separator + 1));
+            if (payload.length < 2 || !MessageDigest.isEqual(signature, hmac(signingKey, payload))) {
+                log.warn("OAuth2 인증 요청 쿠키 서명 불일치");
+                return null;
+            }
+
+            byte[] json = switch (payload[0]) {
+                case FLAG_PLAIN -> Arrays.copyOfRange(payload, 1, payload.length);
+                case FLAG_DEFLATE -> inflate(payload, 1);
+                default -> null;
+            };
+            if (json == null) {
+                return null;
+            }
+
+            Map<String, Object> fields = objectMapper.readValue(json, MAP_TYPE);
+            long issuedAt = ((Number) fields.get("t")).longValue();
+            if (clock.instant().getEpochSecond() - issuedAt > maxAge.getSeconds()) {
+                log.debug("만료된 OAuth2 인증 요청 쿠키");
+                return null;
+            }
+
+            return toAuthorizationRequest(fields);
+
+        } catch (IllegalArgumentException | ClassCastException | NullPointerException
+                 | DataFormatException | IOException e) {
+            log.warn("OAuth2 인증 요청 쿠키 디코딩 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private OAuth2AuthorizationRequest toAuthorizationRequest(Map<String, Object> fields) {
+        String scopes = (String) fields.get("s");
+        OAuth2AuthorizationRequest.Builder builder = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri((String) fields.get("u"))
+                .clientId((String) fields.get("c"))
+                .redirectUri((String) fields.get("r"))
+                .scopes(scopes == null || scopes.isEmpty()
+                        ? new LinkedHashSet<>()
+                        : new LinkedHashSet<>(List.of(scopes.split(" "))))
+                .state((String) fields.get("st"))
+                .authorizationRequestUri((String) fields.get("ru"));
+
+        Object additionalParameters = fields.get("p");
+        if (additionalParameters instanceof Map<?, ?> map) {
+            builder.additionalParameters((Map<String, Object>) map);
+        }
+        Object attributes = fields.get("a");
+        if (attributes instanceof Map<?, ?> map) {
+            builder.attributes((Map<String, Object>) map);
+        }
+
+        OAuth2AuthorizationRequest request = builder.build();
+        if (!AuthorizationGrantType.AUTHORIZATION_CODE.equals(request.getGrantType())) {
+            return null;
+        }
+        return request;
+    }
+
+    private static byte[] hmac(SecretKeySpec key, byte[] data) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 계산 실패", e);
+        }
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length);
+            byte[] buffer = new byte[512];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input, int offset) throws DataFormatException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input, offset, input.length - offset);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[512];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("잘린 압축 데이터");
+                }
+                out.write(buffer, 0, count);
+                // 쿠키 크기 상한(4KB)을 크게 넘는 입력은 거부 (압축 폭탄 방지)
+                if (out.size() > 16 * 1024) {
+                    throw new DataFormatException("압축 해제 크기 초과");
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] prepend(byte flag, byte[] body) {
+        byte[] result = new byte[body.length + 1];
+        result[0] = flag;
+        System.arraycopy(body, 0, result, 1, body.length);
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+package PitterPatter.loventure.authService.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 OAuth2 인증 요청 저장소
+ * - 인증 요청은 state를 키로 Redis에 저장 (TTL 10분), 브라우저에는 state만 왕복
+ * - 콜백 시 GETDEL로 한 번만 꺼내 사용 (재사용 불가)
+ * - 세션/스티키 세션 없이 어느 인스턴스에서나 콜백 처리 가능
+ *
+ * oauth2.authorization-request.store=redis 일 때 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "oauth2.authorization-request.store", havingValue = "redis")
+public class RedisOAuth2AuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    private static final String KEY_PREFIX = "oauth2:authreq:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final OAuth2AuthorizationRequestCodec codec;
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String state = getState(request);
+        if (state == null) {
+            return null;
+        }
+        String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + state);
+        return value != null ? codec.decode(value) : null;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request,
+                                         HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            // 저장할 요청이 없으면 현재 state의 요청 제거
+            String state = getState(request);
+            if (state != null) {
+                stringRedisTemplate.delete(KEY_PREFIX + state);
+            }
+            return;
+        }
+
+        String state = authorizationRequest.getState();
+        if (!StringUtils.hasText(state)) {
+            throw new IllegalArgumentException("OAuth2 인증 요청에 state가 없습니다");
+        }
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + state, codec.encode(authorizationRequest), TTL);
+        log.debug("OAuth2 인증 요청 Redis 저장 - state: {}", state);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+                                                                 HttpServletResponse response) {
+        String state = getState(request);
+        if (state == null) {
+            return null;
+        }
+
+        // 조회와 삭제를 원자적으로 처리해 같은 state로 두 번 콜백되어도 한 번만 성공
+        String value = stringRedisTemplate.opsForValue().getAndDelete(KEY_PREFIX + state);
+        if (value == null) {
+            log.debug("OAuth2 인증 요청 없음 (만료 또는 이미 사용됨) - state: {}", state);
+            return null;
+        }
+        return codec.decode(value);
+    }
+
+    private String getState(HttpServletRequest request) {
+        String state = request.getParameter(OAuth2ParameterNames.STATE);
+        return StringUtils.hasText(state) ? state : null;
+    }
+}
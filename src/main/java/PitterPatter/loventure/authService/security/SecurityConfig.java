@@ -2,13 +2,23 @@
 
 package PitterPatter.loventure.authService.security;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -17,10 +27,14 @@ import PitterPatter.loventure.authService.handler.OAuth2LoginFailureHandler;
 import PitterPatter.loventure.authService.handler.OAuth2LoginSuccessHandler;
 import PitterPatter.loventure.authService.repository.UserRepository;
 import PitterPatter.loventure.authService.service.CustomOAuth2UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(JwtSigningProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
     // 서비스의 보안 규칙을 담당
@@ -29,6 +43,15 @@ public class SecurityConfig {
     private final JWTUtil jwtUtil;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final UserRepository userRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenEpochService tokenEpochService;
+    private final MeterRegistry meterRegistry;
+    // oauth2.authorization-request.store(cookie | redis)에 따라 등록된 저장소 (기본 cookie)
+    private final ObjectProvider<AuthorizationRequestRepository<OAuth2AuthorizationRequest>> authorizationRequestRepository;
+
+    // 내부 서비스 간 공유 토큰 (미설정 시 내부 경로는 기존처럼 인증 없이 허용)
+    @Value("${internal.auth.token:}")
+    private String internalAuthToken;
 
 
     // CORS 설정 (AI 서비스와의 연동을 위해)
@@ -54,6 +77,7 @@ public class SecurityConfig {
         configuration.addAllowedHeader("*");
         configuration.addExposedHeader("X-User-Id"); // 커스텀 헤더 노출
         configuration.addExposedHeader("X-Couple-Id"); // 커스텀 헤더 노출
+        configuration.addExposedHeader(JWTFilter.UPGRADED_TOKEN_HEADER); // 커플 변경 시 재발급된 토큰
         
         // 쿠키 및 인증 정보 허용
         configuration.setAllowCredentials(true);
@@ -67,7 +91,46 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * 내부 서비스 / 운영(actuator) 경로 전용 필터 체인
+     * 사용자용 JWTFilter(DB 조회)를 거치지 않고 공유 서비스 토큰만 확인
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain internalFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/internal/**", "/actuator/**")
+                .csrf((csrf) -> csrf.disable())
+                .formLogin((formLogin) -> formLogin.disable())
+                .httpBasic((httpBasic) -> httpBasic.disable())
+                .logout((logout) -> logout.disable())
+                .sessionManagement((session) -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .securityContext((securityContext) -> securityContext
+                        .securityContextRepository(new RequestAttributeSecurityContextRepository()))
+                .requestCache((requestCache) -> requestCache.disable())
+                .exceptionHandling((exceptions) -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)));
+
+        if (!StringUtils.hasText(internalAuthToken)) {
+            log.warn("internal.auth.token이 설정되지 않아 내부 경로를 인증 없이 허용합니다 (/actuator/queries 제외)");
+            http.authorizeHttpRequests((auth) -> auth
+                    .requestMatchers("/actuator/queries", "/actuator/queries/**").denyAll() // SQL 문, 초기화 기능 노출 방지
+                    .anyRequest().permitAll());
+            return http.build();
+        }
+
+        http
+                .addFilterBefore(new InternalServiceTokenFilter(internalAuthToken), UsernamePasswordAuthenticationFilter.class)
+                .authorizeHttpRequests((auth) -> auth
+                        .requestMatchers("/actuator/health/**", "/actuator/info", "/actuator/prometheus").permitAll() // 프로브/스크레이프
+                        .anyRequest().hasAuthority(InternalServiceTokenFilter.ROLE_INTERNAL_SERVICE));
+
+        return http.build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
         // CSRF, Form Login, HTTP Basic 비활성화
@@ -78,17 +141,21 @@ public class SecurityConfig {
                 .httpBasic((httpBasic) -> httpBasic.disable())
                 .cors((cors) -> cors.configurationSource(corsConfigurationSource())); // CORS 설정 적용
 
-        // 세션 관리 정책: IF_REQUIRED (OAuth2 인증을 위해 필요시에만 세션 생성)
-        // OAuth2 인증 과정에서는 세션이 필요하지만, 인증 후에는 JWT를 사용
+        // 세션 관리 정책: STATELESS (HttpSession, 동시 세션 레지스트리 사용 안 함)
+        // OAuth2 인증 요청은 쿠키/Redis 저장소에 보관하고, 인증 후에는 JWT만 사용
+        // SecurityContext는 요청 범위에만 보관하고, 로그인 전 요청 저장(RequestCache)도 하지 않음
         http
                 .sessionManagement((session) -> session
-                .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
-                .maximumSessions(1)
-                .maxSessionsPreventsLogin(false));
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .securityContext((securityContext) -> securityContext
+                        .securityContextRepository(new RequestAttributeSecurityContextRepository()))
+                .requestCache((requestCache) -> requestCache.disable());
 
         // OAuth2 로그인 설정
         http
                 .oauth2Login((oauth2) -> oauth2
+                        .authorizationEndpoint(authorization -> authorizationRequestRepository
+                                .ifAvailable(authorization::authorizationRequestRepository))
                         .successHandler(oAuth2LoginSuccessHandler) // 로그인 성공 핸들러로 이동 -> 유저를 DB에 저장하거나 조회 후 실행, JWT 발급
                         .failureHandler(oAuth2LoginFailureHandler) // 로그인 실패 핸들러로 이동
                         .userInfoEndpoint(userInfoEndpointConfig -> userInfoEndpointConfig
@@ -96,7 +163,8 @@ public class SecurityConfig {
 
         // JWT Filter -> Spring Security의 필터 체인에 추가
         http
-                .addFilterBefore(new JWTFilter(jwtUtil, userRepository), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JWTFilter(jwtUtil, userRepository, tokenRevocationList, tokenEpochService,
+                        new JWTFilterMetrics(meterRegistry)), UsernamePasswordAuthenticationFilter.class);
 
         http
                 .authorizeHttpRequests((auth) -> auth
@@ -104,8 +172,8 @@ public class SecurityConfig {
                                 "/api/auth/signup", "/oauth2/authorization/**", "/login/oauth2/code/**",
                                 "/api/auth/swagger-ui/**", "/api/auth/v3/api-docs/**", "/api/auth/swagger-ui.html",
                                 "/api/auth/refresh", "/api/auth/redirect", "/favicon.ico",
-                                "/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html", "/actuator/**",
-                                "/internal/user/**", "/internal/api/regions/**").permitAll() // internal 경로들 허용
+                                "/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html",
+                                "/.well-known/jwks.json").permitAll() // internal, actuator 경로는 internalFilterChain에서 처리
                         .requestMatchers("OPTIONS", "/**").permitAll() // CORS preflight 요청 허용
                         .anyRequest().authenticated()); // 나머지 경로는 인증 필요
 
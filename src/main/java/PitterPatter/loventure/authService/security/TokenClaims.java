@@ -0,0 +1,25 @@
+package PitterPatter.loventure.authService.security;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT에서 사용하는 클레임 모음
+ * 한 번 파싱한 결과를 재사용해 같은 토큰을 여러 번 파싱하지 않도록 함
+ */
+public record TokenClaims(
+        String subject,      // providerId
+        String tokenId,      // jti (폐기 목록 키), 기존 토큰이면 null
+        String userId,
+        String coupleId,
+        String type,         // refresh token이면 "refresh", access token이면 null
+        String deviceId,     // refresh token의 기기 ID (did), 기존 단일 토큰이면 null
+        String familyId,     // refresh token의 토큰 패밀리 ID (fid), 기존 단일 토큰이면 null
+        Long epoch,          // access token의 사용자 epoch, 기존 토큰이면 null
+        Date issuedAt,
+        Date expiration
+) {
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
@@ -0,0 +1,152 @@
+package PitterPatter.loventure.authService.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 토큰 epoch 관리
+ * - Access Token은 발급 시점의 epoch 클레임을 가짐
+ * - 탈퇴, 전체 로그아웃 시 epoch 증가 + 하한(floor) 상향 → 이전에 발급된 토큰은 모두 거부
+ * - 커플 변경 시 epoch만 증가 → 이전 토큰은 거부하지 않고 JWTFilter에서 현재 정보로 재발급 (업그레이드)
+ * - epoch가 현재 값과 같은 토큰은 DB 조회 없이 신뢰 (JWTFilter)
+ * - 조회는 로컬 캐시 → Redis 해시(auth:epoch:{providerId}의 current, floor) 순,
+ *   증가 시 pub/sub으로 다른 인스턴스 캐시 무효화
+ */
+@Slf4j
+@Component
+public class TokenEpochService implements MessageListener {
+
+    public static final String CHANNEL = "auth:epochs";
+
+    private static final String KEY_PREFIX = "auth:epoch:";
+    private static final String CURRENT_FIELD = "current";
+    private static final String FLOOR_FIELD = "floor";
+
+    // KEYS[1]=epoch 해시 키 - epoch 증가 후 하한도 같은 값으로 (원자적)
+    private static final RedisScript<Long> BUMP_HARD_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = redis.call('HINCRBY', KEYS[1], 'current', 1)
+            redis.call('HSET', KEYS[1], 'floor', epoch)
+            return epoch
+            """, Long.class);
+
+    /**
+     * 사용자의 epoch 상태
+     * @param current 현재 epoch (새로 발급하는 토큰의 값)
+     * @param floor 이 값보다 작은 epoch의 토큰은 거부, floor 이상 current 미만은 재발급 대상
+     */
+    public record EpochState(long current, long floor) {
+
+        public boolean isRejected(long tokenEpoch) {
+            return tokenEpoch < floor;
+        }
+
+        public boolean isCurrent(long tokenEpoch) {
+            return tokenEpoch == current;
+        }
+    }
+
+    private record CachedEpoch(EpochState state, long loadedAtNanos) {}
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long cacheTtlNanos;
+    private final int cacheMaxSize;
+    private final ConcurrentMap<String, CachedEpoch> cache = new ConcurrentHashMap<>();
+
+    public TokenEpochService(StringRedisTemplate stringRedisTemplate,
+                             @Value("${auth.epoch.cache-ttl:30s}") Duration cacheTtl,
+                             @Value("${auth.epoch.cache-max-size:100000}") int cacheMaxSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+        this.cacheMaxSize = cacheMaxSize;
+    }
+
+    /**
+     * 현재 epoch 조회 (Redis에 값이 없으면 0)
+     * @return Redis 장애로 확인할 수 없으면 null (호출 측은 DB 확인으로 대체)
+     */
+    public Long currentEpoch(String providerId) {
+        EpochState state = state(providerId);
+        return state != null ? state.current() : null;
+    }
+
+    /**
+     * 현재 epoch와 하한 조회 (Redis에 값이 없으면 둘 다 0)
+     * @return Redis 장애로 확인할 수 없으면 null (호출 측은 DB 확인으로 대체)
+     */
+    public EpochState state(String providerId) {
+        CachedEpoch cached = cache.get(providerId);
+        if (cached != null && System.nanoTime() - cached.loadedAtNanos() < cacheTtlNanos) {
+            return cached.state();
+        }
+
+        try {
+            HashOperations<String, String, String> hash = stringRedisTemplate.opsForHash();
+            List<String> values = hash.multiGet(KEY_PREFIX + providerId, List.of(CURRENT_FIELD, FLOOR_FIELD));
+            EpochState state = new EpochState(parse(values.get(0)), parse(values.get(1)));
+            put(providerId, state);
+            return state;
+        } catch (RuntimeException e) {
+            log.warn("토큰 epoch 조회 실패 - providerId: {}, error: {}", providerId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * epoch 증가 + 하한 상향 - 지금까지 발급된 해당 사용자의 Access Token을 모두 거부 (탈퇴, 전체 로그아웃)
+     * @return 증가된 epoch (이후 발급하는 토큰에 사용)
+     */
+    public long bump(String providerId) {
+        Long epoch = stringRedisTemplate.execute(BUMP_HARD_SCRIPT, List.of(KEY_PREFIX + providerId));
+        long bumped = epoch != null ? epoch : 0L;
+        cache.remove(providerId);
+        stringRedisTemplate.convertAndSend(CHANNEL, providerId);
+        log.info("토큰 epoch 증가 (이전 토큰 거부) - providerId: {}, epoch: {}", providerId, bumped);
+        return bumped;
+    }
+
+    /**
+     * epoch만 증가 - 이전 토큰은 다음 요청에서 현재 정보로 재발급됨 (커플 매칭/취소)
+     * @return 증가된 epoch (이후 발급하는 토큰에 사용)
+     */
+    public long bumpUpgradable(String providerId) {
+        Long epoch = stringRedisTemplate.opsForHash().increment(KEY_PREFIX + providerId, CURRENT_FIELD, 1);
+        long bumped = epoch != null ? epoch : 0L;
+        cache.remove(providerId);
+        stringRedisTemplate.convertAndSend(CHANNEL, providerId);
+        log.info("토큰 epoch 증가 (재발급 대상) - providerId: {}, epoch: {}", providerId, bumped);
+        return bumped;
+    }
+
+    /**
+     * 다른 인스턴스에서 epoch가 증가한 사용자의 캐시 무효화
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.remove(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void put(String providerId, EpochState state) {
+        if (cache.size() >= cacheMaxSize) {
+            cache.clear(); // 상한 초과 시 단순 비움 (다음 조회에서 Redis로부터 다시 적재)
+        }
+        cache.put(providerId, new CachedEpoch(state, System.nanoTime()));
+    }
+
+    private static long parse(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
@@ -0,0 +1,169 @@
+package PitterPatter.loventure.authService.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Access Token 폐기 목록
+ * - 폐기된 토큰 ID(jti) 또는 사용자 단위 폐기 시각을 Redis에 남은 토큰 수명만큼 TTL로 저장
+ * - 각 인스턴스는 Bloom filter 미러를 유지하고 pub/sub으로 추가분을 반영
+ * - 요청마다 미러만 확인하고, 걸릴 가능성이 있을 때만 Redis 조회
+ * - 만료 항목 정리와 누락된 메시지 보정을 위해 주기적으로 Redis에서 미러를 다시 생성
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements MessageListener {
+
+    public static final String CHANNEL = "auth:revocations";
+
+    private static final String JTI_KEY_PREFIX = "auth:revoked:jti:";
+    private static final String USER_KEY_PREFIX = "auth:revoked:user:";
+    private static final String JTI_ENTRY_PREFIX = "jti:";
+    private static final String USER_ENTRY_PREFIX = "user:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration userRevocationTtl;
+
+    private volatile RevocationBloomFilter mirror;
+    // 재생성 중에 들어온 항목은 새 필터에도 추가 (교체 시 유실 방지)
+    private volatile RevocationBloomFilter rebuilding;
+
+    public TokenRevocationList(StringRedisTemplate stringRedisTemplate,
+                               @Value("${auth.revocation.bloom.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${auth.revocation.bloom.false-positive-rate:0.001}") double falsePositiveRate,
+                               @Value("${auth.revocation.user-ttl:1h}") Duration userRevocationTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.userRevocationTtl = userRevocationTtl;
+        this.mirror = new RevocationBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 토큰 하나 폐기 (로그아웃) - 토큰이 만료될 때까지만 유지
+     */
+    public void revoke(TokenClaims claims) {
+        if (claims.tokenId() == null || claims.expiration() == null) {
+            return; // jti가 없는 기존 토큰은 개별 폐기 불가 (짧은 수명으로 만료)
+        }
+        long ttlMillis = claims.expiration().getTime() - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+        stringRedisTemplate.opsForValue().set(JTI_KEY_PREFIX + claims.tokenId(), "1", Duration.ofMillis(ttlMillis));
+        publish(JTI_ENTRY_PREFIX + claims.tokenId());
+        log.info("Access Token 폐기 - providerId: {}, jti: {}", claims.subject(), claims.tokenId());
+    }
+
+    /**
+     * 사용자 단위 폐기 (탈퇴 등) - 지금까지 발급된 해당 사용자의 모든 Access Token 무효화
+     */
+    public void revokeAllForUser(String providerId) {
+        long revokedAt = System.currentTimeMillis() / 1000;
+        stringRedisTemplate.opsForValue().set(USER_KEY_PREFIX + providerId, String.valueOf(revokedAt), userRevocationTtl);
+        publish(USER_ENTRY_PREFIX + providerId);
+        log.info("사용자 Access Token 전체 폐기 - providerId: {}", providerId);
+    }
+
+    /**
+     * 폐기 여부 확인 (미러에 없으면 Redis 조회 없이 false)
+     */
+    public boolean isRevoked(TokenClaims claims) {
+        RevocationBloomFilter current = mirror;
+        boolean jtiCandidate = claims.tokenId() != null && current.mightContain(JTI_ENTRY_PREFIX + claims.tokenId());
+        boolean userCandidate = current.mightContain(USER_ENTRY_PREFIX + claims.subject());
+        if (!jtiCandidate && !userCandidate) {
+            return false;
+        }
+
+        try {
+            if (jtiCandidate && Boolean.TRUE.equals(stringRedisTemplate.hasKey(JTI_KEY_PREFIX + claims.tokenId()))) {
+                return true;
+            }
+            if (userCandidate) {
+                String revokedAt = stringRedisTemplate.opsForValue().get(USER_KEY_PREFIX + claims.subject());
+                Date issuedAt = claims.issuedAt();
+                // 폐기 시각 이전(같은 초 포함)에 발급된 토큰은 폐기됨
+                return revokedAt != null && issuedAt != null && issuedAt.getTime() / 1000 <= Long.parseLong(revokedAt);
+            }
+            return false;
+        } catch (RuntimeException e) {
+            // Redis 장애 시 요청을 막지 않음 (계정 상태는 JWTFilter의 DB 조회로 계속 확인)
+            log.warn("폐기 목록 조회 실패 - providerId: {}, error: {}", claims.subject(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 발행된 폐기 항목 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Redis의 현재 폐기 목록으로 미러 재생성 (만료 항목 제거, 누락 메시지 보정)
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.bloom.rebuild-interval:PT5M}",
+            initialDelayString = "${auth.revocation.bloom.rebuild-interval:PT5M}")
+    public void rebuild() {
+        RevocationBloomFilter fresh = new RevocationBloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = fresh;
+        try {
+            int count = scanInto(fresh, JTI_KEY_PREFIX, JTI_ENTRY_PREFIX) + scanInto(fresh, USER_KEY_PREFIX, USER_ENTRY_PREFIX);
+            mirror = fresh;
+            log.debug("폐기 목록 미러 재생성 완료 - entries: {}", count);
+        } catch (RuntimeException e) {
+            log.warn("폐기 목록 미러 재생성 실패 - 기존 미러 유지: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private int scanInto(RevocationBloomFilter filter, String keyPrefix, String entryPrefix) {
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(1000).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                filter.put(entryPrefix + cursor.next().substring(keyPrefix.length()));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void publish(String entry) {
+        add(entry); // 발행한 인스턴스는 메시지 수신을 기다리지 않고 바로 반영
+        stringRedisTemplate.convertAndSend(CHANNEL, entry);
+    }
+
+    private void add(String entry) {
+        mirror.put(entry);
+        RevocationBloomFilter pending = rebuilding;
+        if (pending != null) {
+            pending.put(entry);
+        }
+    }
+}
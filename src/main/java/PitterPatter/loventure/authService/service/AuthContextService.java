@@ -0,0 +1,94 @@
+package PitterPatter.loventure.authService.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import PitterPatter.loventure.authService.dto.AuthContextView;
+import PitterPatter.loventure.authService.dto.response.AuthContextResponse;
+import PitterPatter.loventure.authService.exception.BusinessException;
+import PitterPatter.loventure.authService.exception.ErrorCode;
+import PitterPatter.loventure.authService.repository.AccountStatus;
+import PitterPatter.loventure.authService.repository.CoupleRoom;
+import PitterPatter.loventure.authService.repository.JourneyState;
+import PitterPatter.loventure.authService.repository.UserRepository;
+import PitterPatter.loventure.authService.security.JWTUtil;
+import PitterPatter.loventure.authService.security.TokenClaims;
+import PitterPatter.loventure.authService.security.TokenRevocationList;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gateway 인증 컨텍스트 조회 서비스
+ * - 토큰 서명/만료 검증 후 사용자, 활성 커플룸, 일일 티켓을 한 번의 조인 쿼리로 조회
+ * - 잔여 티켓 수는 Gateway가 차감하는 Redis 값을 우선 사용하고, 없으면 DB 값 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthContextService {
+
+    private final JWTUtil jwtUtil;
+    private final UserRepository userRepository;
+    private final RedisTicketService redisTicketService;
+    private final JourneyStateService journeyStateService;
+    private final TokenRevocationList tokenRevocationList;
+
+    /**
+     * 토큰으로 인증 컨텍스트 조회
+     *
+     * @throws BusinessException 토큰이 유효하지 않거나(UNAUTHORIZED) 계정이 비활성(ACCOUNT_DEACTIVATED)인 경우
+     */
+    @Transactional
+    public AuthContextResponse getAuthContext(String token) {
+        TokenClaims claims = verify(token);
+        String providerId = claims.subject();
+
+        AuthContextView view = userRepository.findAuthContextByProviderId(providerId, CoupleRoom.CoupleStatus.ACTIVE)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        if (view.status() != AccountStatus.ACTIVE) {
+            throw new BusinessException(ErrorCode.ACCOUNT_DEACTIVATED);
+        }
+
+        // 진행 단계 컬럼 추가 이전 사용자는 최초 1회 계산
+        JourneyState journeyState = view.journeyState() != null
+                ? view.journeyState()
+                : journeyStateService.resolve(providerId).journeyState();
+
+        AuthContextResponse.TicketSummary ticket = null;
+        if (view.coupleId() != null) {
+            Integer cachedTicket = redisTicketService.getTicketCount(view.coupleId());
+            int ticketCount = cachedTicket != null
+                    ? cachedTicket
+                    : (view.ticketCount() != null ? view.ticketCount() : 2);
+            ticket = new AuthContextResponse.TicketSummary(ticketCount, !Boolean.FALSE.equals(view.isTodayTicket()));
+        }
+
+        return new AuthContextResponse(
+                view.userId(),
+                providerId,
+                view.coupleId(),
+                view.status().name(),
+                journeyState.name(),
+                ticket,
+                claims.expiration().toInstant());
+    }
+
+    private TokenClaims verify(String token) {
+        try {
+            TokenClaims claims = jwtUtil.parse(token);
+            if (claims.isRefreshToken() || claims.subject() == null) {
+                throw new BusinessException(ErrorCode.UNAUTHORIZED, "액세스 토큰이 아닙니다");
+            }
+            if (tokenRevocationList.isRevoked(claims)) {
+                throw new BusinessException(ErrorCode.UNAUTHORIZED, "폐기된 JWT 토큰입니다");
+            }
+            return claims;
+        } catch (ExpiredJwtException e) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED, "JWT 토큰이 만료되었습니다");
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED, "JWT 토큰이 유효하지 않습니다");
+        }
+    }
+}
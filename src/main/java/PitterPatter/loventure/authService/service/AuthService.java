@@ -1,13 +1,31 @@
 package PitterPatter.loventure.authService.service;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import PitterPatter.loventure.authService.dto.LoginSnapshot;
 import PitterPatter.loventure.authService.dto.OAuth2UserInfo;
+import PitterPatter.loventure.authService.dto.UserLoginView;
 import PitterPatter.loventure.authService.dto.response.AuthResponse;
+import PitterPatter.loventure.authService.dto.response.TokenVerifyBatchResponse;
+import PitterPatter.loventure.authService.dto.response.TokenVerifyResult;
+import PitterPatter.loventure.authService.exception.BusinessException;
+import PitterPatter.loventure.authService.exception.ErrorCode;
 import PitterPatter.loventure.authService.repository.AccountStatus;
 import PitterPatter.loventure.authService.repository.CoupleRoom;
 import PitterPatter.loventure.authService.repository.CoupleRoomRepository;
@@ -15,6 +33,13 @@ import PitterPatter.loventure.authService.repository.ProviderType;
 import PitterPatter.loventure.authService.repository.User;
 import PitterPatter.loventure.authService.repository.UserRepository;
 import PitterPatter.loventure.authService.security.JWTUtil;
+import PitterPatter.loventure.authService.security.TokenClaims;
+import PitterPatter.loventure.authService.security.TokenEpochService;
+import PitterPatter.loventure.authService.security.TokenRevocationList;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -29,6 +54,13 @@ public class AuthService {
     private final UserRepository userRepository;
     private final CoupleRoomRepository coupleRoomRepository;
     private final JWTUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenEpochService tokenEpochService;
+    private final MeterRegistry meterRegistry;
+
+    // 토큰 해시 → 진행 중인 갱신 (동시 갱신 요청 합치기)
+    private final ConcurrentMap<String, CompletableFuture<AuthResponse>> inFlightRefreshes = new ConcurrentHashMap<>();
 
     @Value("${spring.jwt.cookie.secure:false}")
     private boolean cookieSecure;
@@ -36,96 +68,127 @@ public class AuthService {
     @Value("${spring.jwt.cookie.domain:localhost}")
     private String cookieDomain;
 
+    // 이 개수 이상일 때만 서명 검증을 병렬로 수행 (적은 수는 스레드 전환 비용이 더 큼)
+    private static final int PARALLEL_VERIFY_THRESHOLD = 64;
+
+    private record ParsedToken(TokenClaims claims, String reason) {}
+
     /**
-     * 인증 후 서비스 이용을 위한 최종 endpoint(?)
+     * OAuth2 로그인 사용자 upsert 및 로그인 스냅샷 조회
+     * - 기존 사용자: 사용자 + 활성 커플 ID를 한 번의 조인 쿼리로 조회, 제공자 프로필이 바뀐 경우에만 UPDATE
+     * - 신규 사용자: 이메일 중복 확인 후 INSERT
+     * 결과 스냅샷은 principal에 담겨 성공 핸들러에서 그대로 사용됨
+     *
+     * @throws BusinessException 이미 가입된 이메일이거나 비활성화된 계정인 경우
      */
     @Transactional
-    public AuthResponse processOAuth2Login(OAuth2UserInfo oAuth2UserInfo, String providerType) {
+    public LoginSnapshot upsertLoginSnapshot(OAuth2UserInfo oAuth2UserInfo, String providerType) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ProviderType type = null;
+        String outcome = "error";
         try {
-            String providerId = oAuth2UserInfo.getProviderId();
-            String email = oAuth2UserInfo.getEmail();
-            String name = oAuth2UserInfo.getName();
-
-            // 1. 기존 사용자 조회
-            User existingUser = userRepository.findByProviderId(providerId);
-            boolean isNewUser = false;
-
-            if (existingUser == null) {
-                // 신규 사용자 자동 회원가입 로직... (생략)
-                User emailUser = userRepository.findByEmail(email);
-                if (emailUser != null) {
-                    log.warn("이미 존재하는 이메일로 가입 시도: {}", email);
-                    return new AuthResponse(false, "이미 가입된 이메일입니다", null, null, null, null);
-                }
+            type = ProviderType.valueOf(providerType.toUpperCase());
+            LoginSnapshot snapshot = doUpsertLoginSnapshot(oAuth2UserInfo, type);
+            outcome = snapshot.isNewUser() ? "new-user" : "existing-user";
+            return snapshot;
+        } finally {
+            sample.stop(loginTimer("upsert", type, outcome));
+        }
+    }
 
-                User newUser = User.builder()
-                        .providerType(ProviderType.valueOf(providerType.toUpperCase()))
-                        .providerId(providerId)
-                        .email(email)
-                        .name(name)
-                        .status(AccountStatus.ACTIVE)
-                        .build();
+    private LoginSnapshot doUpsertLoginSnapshot(OAuth2UserInfo oAuth2UserInfo, ProviderType type) {
+        String providerId = oAuth2UserInfo.getProviderId();
+        String email = oAuth2UserInfo.getEmail();
+        String name = oAuth2UserInfo.getName();
 
-                existingUser = userRepository.save(newUser);
-                isNewUser = true;
-            } else {
-                // 기존 사용자 정보 업데이트 로직... (생략)
-                if (!email.equals(existingUser.getEmail()) || !name.equals(existingUser.getName())) {
-                    existingUser.updateUserInfo(email, name);
-                    userRepository.save(existingUser);
-                }
-            }
+        Optional<UserLoginView> loginViewOpt = userRepository.findLoginViewByProviderId(providerId, CoupleRoom.CoupleStatus.ACTIVE);
 
-            // 계정 상태 확인 로직... (생략)
-            if (existingUser.getStatus() != AccountStatus.ACTIVE) {
-                return new AuthResponse(false, "비활성화된 계정입니다", null, null, null, null);
+        if (loginViewOpt.isEmpty()) {
+            // 신규 사용자 자동 회원가입
+            if (userRepository.existsByEmail(email)) {
+                log.warn("이미 존재하는 이메일로 가입 시도: {}", email);
+                throw new BusinessException(ErrorCode.USER_ALREADY_EXISTS, "이미 가입된 이메일입니다");
             }
 
-            // 5. 사용자의 커플 정보 조회
-            // [수정] CoupleService의 public 메서드를 호출하도록 변경
-            String coupleId = getCoupleIdByProviderId(existingUser.getProviderId());
-
-            // 6. JWT 토큰 생성
-            String accessToken = jwtUtil.createJwtWithUserIdAndCoupleId(
-                    existingUser.getProviderId(),
-                    existingUser.getUserId(),
-                    coupleId,
-                    10 * 60 * 1000L
-            );
-            String refreshToken = jwtUtil.createRefreshToken(existingUser.getProviderId());
-
-            // 7. [핵심 수정] DB에 Refresh Token 저장 및 사용자 엔티티 업데이트 (Stateful)
-            existingUser.setRefreshToken(refreshToken);
-            userRepository.save(existingUser);
-            log.info("DB에 Refresh Token 저장 완료");
-
-            // 8. 응답 구성 (생략)
-            AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
-                    existingUser.getUserId().toString(),
-                    existingUser.getEmail(),
-                    existingUser.getName(),
-                    existingUser.getProviderType().name(),
-                    existingUser.getProviderId(),
-                    existingUser.getStatus().name(),
-                    isNewUser
-            );
+            User newUser = userRepository.save(User.builder()
+                    .providerType(type)
+                    .providerId(providerId)
+                    .email(email)
+                    .name(name)
+                    .status(AccountStatus.ACTIVE)
+                    .build());
+            log.info("OAuth2 신규 사용자 가입 - providerId: {}, userId: {}", providerId, newUser.getUserId());
+
+            return new LoginSnapshot(newUser.getUserId(), providerId, type, email, name,
+                    newUser.getStatus().name(), true, null, newUser.getJourneyState(), false);
+        }
 
-            return new AuthResponse(
-                    true,
-                    isNewUser ? "회원가입 및 로그인 성공" : "로그인 성공",
-                    accessToken,
-                    refreshToken,
-                    3600L,
-                    userInfo
-            );
+        UserLoginView loginView = loginViewOpt.get();
+        if (loginView.status() != AccountStatus.ACTIVE) {
+            throw new BusinessException(ErrorCode.ACCOUNT_DEACTIVATED);
+        }
 
-        } catch (Exception e) {
-            log.error("OAuth2 로그인 처리 중 오류 발생: {}", e.getMessage(), e);
-            return new AuthResponse(
-                    false, "로그인 처리 중 오류가 발생했습니다", null, null, null, null);
+        // 제공자 프로필이 변경된 경우에만 갱신
+        if (!Objects.equals(email, loginView.email()) || !Objects.equals(name, loginView.name())) {
+            userRepository.updateProfileFromProvider(loginView.userId(), email, name, LocalDateTime.now());
+        }
+
+        return new LoginSnapshot(loginView.userId(), providerId, type, email, name,
+                loginView.status().name(), false, loginView.coupleId(), loginView.journeyState(),
+                Boolean.TRUE.equals(loginView.isRockCompleted()));
+    }
+
+    /**
+     * 로그인 스냅샷으로 토큰 발급 (사용자/커플 재조회 없이, Refresh Token은 Redis에 기기별로 저장)
+     */
+    public AuthResponse completeOAuth2Login(LoginSnapshot snapshot) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            AuthResponse response = issueLoginTokens(snapshot);
+            outcome = snapshot.isNewUser() ? "new-user" : "existing-user";
+            return response;
+        } finally {
+            sample.stop(loginTimer("issue", snapshot.providerType(), outcome));
         }
     }
 
+    private AuthResponse issueLoginTokens(LoginSnapshot snapshot) {
+        String accessToken = jwtUtil.createJwtWithUserIdAndCoupleId(
+                snapshot.providerId(),
+                snapshot.userId(),
+                snapshot.coupleId(),
+                tokenEpochService.currentEpoch(snapshot.providerId()),
+                10 * 60 * 1000L
+        );
+        // 로그인마다 새 기기 + 새 토큰 패밀리 (다른 기기의 세션은 유지)
+        String deviceId = UUID.randomUUID().toString();
+        String familyId = UUID.randomUUID().toString();
+        String refreshToken = jwtUtil.createRefreshToken(snapshot.providerId(), deviceId, familyId);
+
+        refreshTokenStore.issue(snapshot.providerId(), deviceId, familyId, refreshToken, refreshTokenExpiry());
+        log.info("Redis에 Refresh Token 저장 완료 - deviceId: {}", deviceId);
+
+        AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
+                snapshot.userId(),
+                snapshot.email(),
+                snapshot.name(),
+                snapshot.providerType().name(),
+                snapshot.providerId(),
+                snapshot.status(),
+                snapshot.isNewUser()
+        );
+
+        return new AuthResponse(
+                true,
+                snapshot.isNewUser() ? "회원가입 및 로그인 성공" : "로그인 성공",
+                accessToken,
+                refreshToken,
+                3600L,
+                userInfo
+        );
+    }
+
     /**
      * 사용자의 커플 ID 조회 (private -> public 또는 CoupleService로 이동 권장)
      * AuthService 내부에서만 사용하기 때문에 private으로 유지하지만,
@@ -148,16 +211,58 @@ public class AuthService {
         }
     }
 
-    @Transactional
+    /**
+     * Refresh Token으로 토큰 갱신
+     * 같은 토큰으로 동시에 들어온 요청은 하나만 실행하고 나머지는 그 결과를 공유 (single-flight)
+     * 다른 인스턴스로 간 동시 요청은 RefreshTokenStore의 유예 시간으로 처리
+     */
     public AuthResponse refreshToken(String refreshToken) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
-            // 1. 기본 유효성 검사 (null, 만료)
-            if (refreshToken == null || refreshToken.trim().isEmpty() || jwtUtil.isTokenExpired(refreshToken)) {
+            AuthResponse response = refreshTokenSingleFlight(refreshToken);
+            outcome = response.success() ? "success" : "rejected";
+            return response;
+        } finally {
+            sample.stop(meterRegistry.timer("auth.refresh", "outcome", outcome));
+        }
+    }
+
+    private AuthResponse refreshTokenSingleFlight(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return doRefreshToken(refreshToken);
+        }
+
+        String key = RefreshTokenStore.hash(refreshToken);
+        CompletableFuture<AuthResponse> mine = new CompletableFuture<>();
+        CompletableFuture<AuthResponse> inFlight = inFlightRefreshes.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            log.debug("진행 중인 토큰 갱신 결과 공유");
+            return inFlight.join();
+        }
+
+        try {
+            AuthResponse response = doRefreshToken(refreshToken);
+            mine.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRefreshes.remove(key, mine);
+        }
+    }
+
+    private AuthResponse doRefreshToken(String refreshToken) {
+        try {
+            // 1. 기본 유효성 검사 (null, 서명, 만료, 토큰 종류)
+            TokenClaims claims = parseRefreshToken(refreshToken);
+            if (claims == null) {
                 log.warn("리프레시 토큰이 유효하지 않거나 만료됨");
                 return new AuthResponse(false, "리프레시 토큰이 유효하지 않거나 만료되었습니다", null, null, null, null);
             }
 
-            String providerId = jwtUtil.getUsername(refreshToken);
+            String providerId = claims.subject();
             User user = userRepository.findByProviderId(providerId);
 
             // 2. 사용자 존재 및 활성 상태 확인
@@ -166,26 +271,33 @@ public class AuthService {
                 return new AuthResponse(false, "유효하지 않은 사용자입니다", null, null, null, null);
             }
 
-            // 3. [보안 검증] 요청된 Refresh Token이 DB에 저장된 토큰과 일치하는지 확인
-            // User 엔티티의 refreshToken 필드를 사용합니다.
-            if (user.getRefreshToken() == null || !user.getRefreshToken().equals(refreshToken)) {
-                log.warn("DB와 Refresh Token 불일치 감지. 탈취 가능성. 토큰 무효화.");
-                // DB의 토큰을 null로 설정하여 기존 세션 무효화
-                user.setRefreshToken(null);
-                userRepository.save(user);
-
-                return new AuthResponse(false, "유효하지 않은 리프레시 토큰입니다 (불일치)", null, null, null, null);
+            // 3. [보안 검증] 기기별 저장 토큰과 비교 후 새 토큰으로 교체 (Redis CAS, users 테이블 쓰기 없음)
+            String newRefreshToken;
+            if (claims.deviceId() == null) {
+                newRefreshToken = migrateLegacyRefreshToken(user, refreshToken);
+                if (newRefreshToken == null) {
+                    return new AuthResponse(false, "유효하지 않은 리프레시 토큰입니다 (불일치)", null, null, null, null);
+                }
+            } else {
+                RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(
+                        providerId, claims.deviceId(), claims.familyId(), refreshToken,
+                        jwtUtil.createRefreshToken(providerId, claims.deviceId(), claims.familyId()), refreshTokenExpiry());
+                if (rotation.refreshToken() == null) {
+                    log.warn("Refresh Token 회전 실패 - providerId: {}, deviceId: {}, result: {}",
+                            providerId, claims.deviceId(), rotation.result());
+                    return new AuthResponse(false, "유효하지 않은 리프레시 토큰입니다 (불일치)", null, null, null, null);
+                }
+                if (rotation.result() == RefreshTokenStore.RotationResult.GRACE) {
+                    log.info("유예 시간 내 직전 Refresh Token - 이미 발급된 토큰 반환, deviceId: {}", claims.deviceId());
+                }
+                newRefreshToken = rotation.refreshToken();
             }
 
-            // 4. 새로운 Access Token 및 Refresh Token 생성 (롤링)
+            // 4. 새로운 Access Token 생성
             String coupleId = getCoupleIdByProviderId(providerId); // Couple ID 재조회
-            String newAccessToken = jwtUtil.createJwtWithUserIdAndCoupleId(providerId, user.getUserId(), coupleId, 10 * 60 * 1000L);
-            String newRefreshToken = jwtUtil.createRefreshToken(providerId);
-
-            // 5. [핵심 수정] 새로운 Refresh Token을 DB에 저장
-            user.setRefreshToken(newRefreshToken);
-            userRepository.save(user);
-            log.info("DB에 새로운 Refresh Token 저장 및 갱신 완료");
+            String newAccessToken = jwtUtil.createJwtWithUserIdAndCoupleId(
+                    providerId, user.getUserId(), coupleId, tokenEpochService.currentEpoch(providerId), 10 * 60 * 1000L);
+            log.info("Refresh Token 회전 완료 - providerId: {}", providerId);
 
             // 6. 응답 구성 (생략)
             AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
@@ -200,6 +312,83 @@ public class AuthService {
             return new AuthResponse(false, "토큰 갱신 중 오류가 발생했습니다", null, null, null, null);
         }
     }
+    /**
+     * 로그아웃 - 현재 Access Token 폐기 + 해당 기기의 Refresh Token만 폐기 (다른 기기 세션은 유지)
+     */
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null && !accessToken.isBlank()) {
+            try {
+                tokenRevocationList.revoke(jwtUtil.parse(accessToken));
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("로그아웃 - 유효하지 않은 Access Token은 폐기 생략: {}", e.getMessage());
+            }
+        }
+
+        TokenClaims claims = parseRefreshToken(refreshToken);
+        if (claims == null || claims.deviceId() == null) {
+            return;
+        }
+        refreshTokenStore.revoke(claims.subject(), claims.deviceId());
+    }
+
+    /**
+     * 모든 기기에서 로그아웃 - epoch 증가로 발급된 Access Token 전부 무효화 + 모든 기기 Refresh Token 폐기
+     */
+    public void logoutAll(String providerId) {
+        tokenEpochService.bump(providerId);
+        refreshTokenStore.revokeAll(providerId);
+        log.info("모든 기기 로그아웃 완료 - providerId: {}", providerId);
+    }
+
+    /**
+     * 기기 ID가 없는 기존 단일 Refresh Token(users.refresh_token) 처리
+     * DB 값과 일치하면 한 번만 받아 주고 Redis 기기 항목으로 이전, 불일치면 기존처럼 무효화
+     */
+    private String migrateLegacyRefreshToken(User user, String refreshToken) {
+        if (user.getRefreshToken() == null || !user.getRefreshToken().equals(refreshToken)) {
+            log.warn("DB와 Refresh Token 불일치 감지. 탈취 가능성. 토큰 무효화.");
+            if (user.getRefreshToken() != null) {
+                user.setRefreshToken(null);
+                userRepository.save(user);
+            }
+            return null;
+        }
+
+        String deviceId = UUID.randomUUID().toString();
+        String familyId = UUID.randomUUID().toString();
+        String newRefreshToken = jwtUtil.createRefreshToken(user.getProviderId(), deviceId, familyId);
+        refreshTokenStore.issue(user.getProviderId(), deviceId, familyId, newRefreshToken, refreshTokenExpiry());
+
+        // 이전 완료 후 DB 값 제거 (사용자당 한 번만 발생하는 쓰기)
+        user.setRefreshToken(null);
+        userRepository.save(user);
+        log.info("기존 Refresh Token을 Redis로 이전 - providerId: {}, deviceId: {}", user.getProviderId(), deviceId);
+        return newRefreshToken;
+    }
+
+    // 서명/만료 검증 후 refresh 타입인 경우에만 클레임 반환
+    private TokenClaims parseRefreshToken(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return null;
+        }
+        try {
+            TokenClaims claims = jwtUtil.parse(refreshToken);
+            return claims.isRefreshToken() ? claims : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // provider: kakao/google (ProviderType 기준, 변환 전에 실패하면 unknown), phase: upsert(사용자 조회/가입) | issue(토큰 발급/저장)
+    private Timer loginTimer(String phase, ProviderType provider, String outcome) {
+        String providerTag = provider != null ? provider.name().toLowerCase() : "unknown";
+        return meterRegistry.timer("auth.login", "phase", phase, "provider", providerTag, "outcome", outcome);
+    }
+
+    private Instant refreshTokenExpiry() {
+        return Instant.now().plusMillis(JWTUtil.REFRESH_TOKEN_VALIDITY_MS);
+    }
+
     /**
      * 쿠키에서 refresh token 추출
      */
@@ -280,4 +469,65 @@ public class AuthService {
             return false;
         }
     }
+
+    /**
+     * JWT 일괄 검증 (Territory-service 주기적 재검증용)
+     * - 서명/만료 검증은 DB 없이 (개수가 많으면 병렬로) 수행
+     * - 서명이 유효한 토큰의 사용자 상태는 한 번의 IN 쿼리로 확인
+     */
+    public TokenVerifyBatchResponse verifyJwtTokens(List<String> tokens) {
+        Stream<String> stream = tokens.size() >= PARALLEL_VERIFY_THRESHOLD ? tokens.parallelStream() : tokens.stream();
+        List<ParsedToken> parsedTokens = stream.map(this::parseForVerification).toList();
+
+        Set<String> providerIds = new HashSet<>();
+        for (ParsedToken parsed : parsedTokens) {
+            if (parsed.claims() != null) {
+                providerIds.add(parsed.claims().subject());
+            }
+        }
+        Set<String> activeProviderIds = providerIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findProviderIdsByStatus(providerIds, AccountStatus.ACTIVE));
+
+        int validCount = 0;
+        List<TokenVerifyResult> results = new ArrayList<>(parsedTokens.size());
+        for (ParsedToken parsed : parsedTokens) {
+            if (parsed.claims() == null) {
+                results.add(TokenVerifyResult.invalid(parsed.reason()));
+            } else if (!activeProviderIds.contains(parsed.claims().subject())) {
+                results.add(TokenVerifyResult.invalid("USER_INACTIVE"));
+            } else {
+                results.add(TokenVerifyResult.valid(parsed.claims().userId(), parsed.claims().coupleId()));
+                validCount++;
+            }
+        }
+
+        log.info("JWT 일괄 검증 완료 - 요청: {}, 유효: {}, 사용자 조회: {}", tokens.size(), validCount, providerIds.size());
+        return new TokenVerifyBatchResponse(results, validCount);
+    }
+
+    private ParsedToken parseForVerification(String token) {
+        if (token == null || token.isBlank()) {
+            return new ParsedToken(null, "EMPTY");
+        }
+        try {
+            TokenClaims claims = jwtUtil.parse(token.trim());
+            if (claims.subject() == null || claims.subject().isBlank()) {
+                return new ParsedToken(null, "MALFORMED");
+            }
+            if (claims.isRefreshToken()) {
+                return new ParsedToken(null, "NOT_ACCESS_TOKEN");
+            }
+            if (tokenRevocationList.isRevoked(claims)) {
+                return new ParsedToken(null, "REVOKED");
+            }
+            return new ParsedToken(claims, null);
+        } catch (ExpiredJwtException e) {
+            return new ParsedToken(null, "EXPIRED");
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            return new ParsedToken(null, "INVALID_SIGNATURE");
+        } catch (JwtException | IllegalArgumentException e) {
+            return new ParsedToken(null, "MALFORMED");
+        }
+    }
 }
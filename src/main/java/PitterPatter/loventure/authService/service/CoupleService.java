@@ -6,10 +6,13 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.github.f4b6a3.tsid.TsidCreator;
 
@@ -32,7 +35,11 @@ import PitterPatter.loventure.authService.repository.CoupleRoomRepository;
 import PitterPatter.loventure.authService.repository.DateCostPreference;
 import PitterPatter.loventure.authService.repository.User;
 import PitterPatter.loventure.authService.repository.UserRepository;
+import PitterPatter.loventure.authService.security.JWTFilter;
 import PitterPatter.loventure.authService.security.JWTUtil;
+import PitterPatter.loventure.authService.security.TokenEpochService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,11 +53,28 @@ public class CoupleService {
     private final UserService userService;
     private final CoupleMapper coupleMapper;
     private final JWTUtil jwtUtil;
+    private final TokenEpochService tokenEpochService;
     private final UserRepository userRepository;
     private final RedisTicketService redisTicketService;
+    private final JourneyStateService journeyStateService;
+    private final MeterRegistry meterRegistry;
 
     private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
     private static final int CODE_LENGTH = 6;
+    private static final SecureRandom INVITE_CODE_RANDOM = new SecureRandom();
+
+    // 티켓 작업 결과 (couple.ticket 타이머의 outcome 태그)
+    private enum TicketOutcome {
+        SUCCESS("success"),   // 처리 완료
+        REJECTED("rejected"), // 티켓 부족, 오늘 이미 추가함 등 정상적인 거절
+        ERROR("error");       // 조회 실패, Redis 오류 등 예외
+
+        private final String tag;
+
+        TicketOutcome(String tag) {
+            this.tag = tag;
+        }
+    }
 
     // 에러 코드 상수는 ErrorConstants에서 관리
 
@@ -77,6 +101,7 @@ public class CoupleService {
                     // status는 기본값 PENDING 사용
                     .build();
             coupleRoomRepository.save(coupleRoom);
+            journeyStateService.refresh(user);
 
             CreateCoupleRoomResponse response = coupleMapper.toCreateCoupleRoomResponse(inviteCode);
 
@@ -114,12 +139,19 @@ public class CoupleService {
             }
             
             coupleRoomRepository.save(coupleRoom);
+            journeyStateService.refresh(user);
+            journeyStateService.refresh(coupleRoom.getCreatorUserId());
+
+            // coupleId가 없는 기존 토큰은 다음 요청에서 JWTFilter가 coupleId 포함 토큰으로 재발급
+            tokenEpochService.bumpUpgradable(coupleRoom.getCreatorUserId());
+            long epoch = tokenEpochService.bumpUpgradable(providerId);
 
             // 커플 매칭 완료 후 새 JWT 생성 (coupleId 포함)
             String newJwt = jwtUtil.createJwtWithUserIdAndCoupleId(
                 providerId, 
                 user.getUserId(), 
                 coupleId, 
+                epoch,
                 600000L // 10분 (600000ms)
             );
 
@@ -180,9 +212,18 @@ public class CoupleService {
         }
 
         // 매칭 취소 시 PENDING 상태로 되돌리고 파트너 정보 제거
+        String partnerUserId = coupleRoom.getPartnerUserId();
         coupleRoom.setStatus(CoupleRoom.CoupleStatus.PENDING);
         coupleRoom.setPartnerUserId(null);
         coupleRoomRepository.save(coupleRoom);
+        journeyStateService.refresh(coupleRoom.getCreatorUserId());
+        journeyStateService.refresh(partnerUserId);
+
+        // coupleId가 포함된 기존 토큰은 다음 요청에서 JWTFilter가 재발급
+        tokenEpochService.bumpUpgradable(coupleRoom.getCreatorUserId());
+        if (partnerUserId != null) {
+            tokenEpochService.bumpUpgradable(partnerUserId);
+        }
         log.info("커플 매칭 취소 완료 - coupleId: {}, 상태: PENDING으로 변경", coupleId);
         return ApiResponse.success("커플 매칭이 취소되었습니다. 다시 매칭할 수 있습니다.", null);
     }
@@ -190,15 +231,20 @@ public class CoupleService {
 
     // 매칭을 위한 inviteCode 생성
     private String generateInviteCode() {
-        SecureRandom random = new SecureRandom();
-        StringBuilder code = new StringBuilder(CODE_LENGTH);
+        String code;
         do {
-            code.setLength(0);
-            for (int i = 0; i < CODE_LENGTH; i++) {
-                code.append(CHARACTERS.charAt(random.nextInt(CHARACTERS.length())));
-            }
-        } while (coupleRoomRepository.existsByInviteCode(code.toString()));
-        return code.toString();
+            code = randomInviteCode();
+        } while (coupleRoomRepository.existsByInviteCode(code));
+        return code;
+    }
+
+    // 중복 확인 없이 코드 문자열만 생성 (SecureRandom은 스레드 안전하므로 공유)
+    static String randomInviteCode() {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            code[i] = CHARACTERS.charAt(INVITE_CODE_RANDOM.nextInt(CHARACTERS.length()));
+        }
+        return new String(code);
     }
 
     /**
@@ -241,11 +287,9 @@ public class CoupleService {
      * 사용자가 이미 커플 상태인지 확인
      */
     private boolean isUserAlreadyCoupled(String providerId) {
-        // 사용자가 생성자이거나 파트너인 활성 상태의 커플룸이 있는지 확인
-        return coupleRoomRepository.existsByCreatorUserIdAndStatus(providerId, CoupleRoom.CoupleStatus.ACTIVE) ||
-               coupleRoomRepository.existsByPartnerUserIdAndStatus(providerId, CoupleRoom.CoupleStatus.ACTIVE) ||
-               coupleRoomRepository.existsByCreatorUserIdAndStatus(providerId, CoupleRoom.CoupleStatus.PENDING) ||
-               coupleRoomRepository.existsByPartnerUserIdAndStatus(providerId, CoupleRoom.CoupleStatus.PENDING);
+        // 사용자가 생성자이거나 파트너인 활성/매칭 대기 상태의 커플룸이 있는지 한 번의 쿼리로 확인
+        return coupleRoomRepository.existsByMemberAndStatusIn(providerId,
+                List.of(CoupleRoom.CoupleStatus.ACTIVE, CoupleRoom.CoupleStatus.PENDING));
     }
 
     /**
@@ -298,6 +342,7 @@ public class CoupleService {
                     .ticketCount(2) // 명시적으로 티켓 2개 설정
                     .build();
             coupleRoomRepository.save(coupleRoom);
+            journeyStateService.refresh(user);
 
             CreateCoupleRoomResponse response = coupleMapper.toCreateCoupleRoomResponse(inviteCode);
 
@@ -376,8 +421,8 @@ public class CoupleService {
             // reroll 관리 로직
             manageRerollCount(coupleRoom);
             
-            // 사용자 정보 조회 (생성자)
-            User creatorUser = userService.getUserByProviderId(coupleRoom.getCreatorUserId());
+            // 사용자 정보 조회 (생성자, 응답에 쓰는 선호 음식 컬렉션까지 함께 조회)
+            User creatorUser = userRepository.findWithFavoriteFoodsByProviderId(coupleRoom.getCreatorUserId());
             if (creatorUser == null) {
                 return ApiResponse.error(ErrorCode.USER_NOT_FOUND.getCode(), "생성자 사용자 정보를 찾을 수 없습니다.");
             }
@@ -385,7 +430,7 @@ public class CoupleService {
             // 파트너 사용자 정보 조회
             User partnerUser = null;
             if (coupleRoom.getPartnerUserId() != null) {
-                partnerUser = userService.getUserByProviderId(coupleRoom.getPartnerUserId());
+                partnerUser = userRepository.findWithFavoriteFoodsByProviderId(coupleRoom.getPartnerUserId());
                 if (partnerUser == null) {
                     return ApiResponse.error(ErrorCode.USER_NOT_FOUND.getCode(), "파트너 사용자 정보를 찾을 수 없습니다.");
                 }
@@ -504,10 +549,15 @@ public class CoupleService {
      * HttpServletRequest에서 coupleId 추출 (JWT에서)
      */
     public String getCoupleIdFromRequest(jakarta.servlet.http.HttpServletRequest request) {
-        String token = extractTokenFromRequest(request);
-        
-        // JWT에서 coupleId 추출
-        String coupleId = jwtUtil.getCoupleIdFromToken(token);
+        // JWTFilter가 검증(또는 재발급)한 결과가 있으면 null이어도 그대로 사용
+        // (커플 해제로 epoch가 바뀐 요청에서 이전 토큰의 coupleId를 다시 읽지 않도록)
+        String coupleId;
+        if (Boolean.TRUE.equals(request.getAttribute(JWTFilter.COUPLE_ID_VERIFIED_ATTRIBUTE))) {
+            coupleId = (String) request.getAttribute(JWTFilter.COUPLE_ID_ATTRIBUTE);
+        } else {
+            // JWT에서 coupleId 추출
+            coupleId = jwtUtil.getCoupleIdFromToken(extractTokenFromRequest(request));
+        }
         if (coupleId == null) {
             throw new IllegalArgumentException("JWT에서 coupleId를 찾을 수 없습니다");
         }
@@ -573,6 +623,18 @@ public class CoupleService {
      * Redis 없이 DB에서만 조회하여 Gateway에 제공
      */
     public TicketInfo getTicketInfoFromDb(String coupleId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            TicketInfo ticketInfo = findTicketInfoFromDb(coupleId);
+            outcome = "success";
+            return ticketInfo;
+        } finally {
+            sample.stop(ticketTimer("get", outcome));
+        }
+    }
+
+    private TicketInfo findTicketInfoFromDb(String coupleId) {
         try {
             log.info("🎫 DB에서 티켓 정보 조회 시작 - coupleId: {}", coupleId);
             
@@ -609,6 +671,13 @@ public class CoupleService {
      */
     @Transactional
     public boolean consumeTicket(String coupleId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        TicketOutcome outcome = doConsumeTicket(coupleId);
+        stopAfterCompletion(sample, "consume", outcome);
+        return outcome == TicketOutcome.SUCCESS;
+    }
+
+    private TicketOutcome doConsumeTicket(String coupleId) {
         try {
             log.info("🎫 티켓 차감 시작 - coupleId: {}", coupleId);
             
@@ -619,7 +688,7 @@ public class CoupleService {
             
             if (currentTicketCount <= 0) {
                 log.warn("❌ 티켓 부족 - coupleId: {}, 현재 티켓: {}", coupleId, currentTicketCount);
-                return false;
+                return TicketOutcome.REJECTED;
             }
             
             // 티켓 1개 차감
@@ -632,12 +701,12 @@ public class CoupleService {
             log.info("✅ 티켓 차감 완료 - coupleId: {}, 티켓: {} → {}", 
                     coupleId, currentTicketCount, currentTicketCount - 1);
             
-            return true;
+            return TicketOutcome.SUCCESS;
             
         } catch (Exception e) {
             log.error("❌ 티켓 차감 실패 - coupleId: {}, error: {}", 
                     coupleId, e.getMessage(), e);
-            return false;
+            return TicketOutcome.ERROR;
         }
     }
 
@@ -647,6 +716,13 @@ public class CoupleService {
      */
     @Transactional
     public boolean consumeTicketAndCompleteRock(String coupleId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        TicketOutcome outcome = doConsumeTicketAndCompleteRock(coupleId);
+        stopAfterCompletion(sample, "consume-and-complete-rock", outcome);
+        return outcome == TicketOutcome.SUCCESS;
+    }
+
+    private TicketOutcome doConsumeTicketAndCompleteRock(String coupleId) {
         try {
             log.info("🎫 티켓 차감 및 Rock 완료 처리 시작 - coupleId: {}", coupleId);
             
@@ -667,7 +743,7 @@ public class CoupleService {
             
             if (currentTicketCount <= 0) {
                 log.warn("❌ 티켓 부족 - coupleId: {}, 현재 티켓: {}", coupleId, currentTicketCount);
-                return false;
+                return TicketOutcome.REJECTED;
             }
             
             // 1. 티켓 차감 (커플룸이 있는 경우에만)
@@ -689,12 +765,12 @@ public class CoupleService {
             
             log.info("✅ 티켓 차감 및 Rock 완료 처리 성공 - coupleId: {}", coupleId);
             
-            return true;
+            return TicketOutcome.SUCCESS;
             
         } catch (Exception e) {
             log.error("❌ 티켓 차감 및 Rock 완료 처리 실패 - coupleId: {}, error: {}", 
                     coupleId, e.getMessage(), e);
-            return false;
+            return TicketOutcome.ERROR;
         }
     }
 
@@ -706,6 +782,7 @@ public class CoupleService {
         User user = userService.validateUserByProviderId(providerId);
         user.setIsRockCompleted(true);
         user.setRockCompletedAt(LocalDateTime.now());
+        journeyStateService.refresh(user);
         userRepository.save(user);
         log.info("✅ 사용자 Rock 상태 완료 처리 - providerId: {}", providerId);
     }
@@ -715,6 +792,13 @@ public class CoupleService {
      */
     @Transactional
     public boolean addTicketForCourse(String coupleId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        TicketOutcome outcome = doAddTicketForCourse(coupleId);
+        stopAfterCompletion(sample, "add-for-course", outcome);
+        return outcome == TicketOutcome.SUCCESS;
+    }
+
+    private TicketOutcome doAddTicketForCourse(String coupleId) {
         try {
             log.info("🎫 코스 저장 시 일일 티켓 추가 시작 - coupleId: {}", coupleId);
             
@@ -730,7 +814,7 @@ public class CoupleService {
             if (!couple.getIsTodayTicket()) {
                 log.warn("❌ 오늘 이미 티켓을 사용했음 - coupleId: {}, isTodayTicket: {}", 
                         coupleId, couple.getIsTodayTicket());
-                return false; // 오늘 이미 티켓 사용했으면 추가 불가
+                return TicketOutcome.REJECTED; // 오늘 이미 티켓 사용했으면 추가 불가
             }
             
             // 4. 현재 티켓 수 조회
@@ -754,13 +838,33 @@ public class CoupleService {
             log.info("✅ 코스 저장 시 일일 티켓 추가 완료 - coupleId: {}, 티켓: {} → {}, isTodayTicket: {} → {}", 
                     coupleId, currentTicketCount, newTicketCount, true, false);
             
-            return true;
+            return TicketOutcome.SUCCESS;
             
         } catch (Exception e) {
             log.error("❌ 코스 저장 시 일일 티켓 추가 실패 - coupleId: {}, error: {}", 
                     coupleId, e.getMessage(), e);
-            return false;
+            return TicketOutcome.ERROR;
+        }
+    }
+
+    /**
+     * 티켓 작업 시간 기록 (트랜잭션 안이면 커밋/롤백까지 포함해 완료 시점에 기록)
+     * outcome: success, rejected(티켓 부족 등), error(처리 중 예외), rolled-back
+     */
+    private void stopAfterCompletion(Timer.Sample sample, String operation, TicketOutcome outcome) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sample.stop(ticketTimer(operation, outcome.tag));
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                sample.stop(ticketTimer(operation, status == STATUS_COMMITTED ? outcome.tag : "rolled-back"));
+            }
+        });
     }
 
-}
\ No newline at end of file
+    private Timer ticketTimer(String operation, String outcome) {
+        return meterRegistry.timer("couple.ticket", "operation", operation, "outcome", outcome);
+    }
+}
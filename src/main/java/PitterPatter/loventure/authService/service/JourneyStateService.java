@@ -0,0 +1,84 @@
+package PitterPatter.loventure.authService.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import PitterPatter.loventure.authService.dto.UserJourneyView;
+import PitterPatter.loventure.authService.repository.CoupleRoom;
+import PitterPatter.loventure.authService.repository.CoupleRoomRepository;
+import PitterPatter.loventure.authService.repository.JourneyState;
+import PitterPatter.loventure.authService.repository.User;
+import PitterPatter.loventure.authService.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 진행 단계(JourneyState) 관리 서비스
+ * - 온보딩, 커플룸 생성/매칭/취소, rock 완료 시점에 users.journey_state를 갱신
+ * - 리다이렉트 결정 시에는 저장된 단계만 조회 (컬렉션 지연 로딩, 커플 조회 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JourneyStateService {
+
+    // 매칭 대기(PENDING) 커플룸도 커플 매칭 단계를 통과한 것으로 취급 (기존 isUserCoupled와 동일)
+    private static final List<CoupleRoom.CoupleStatus> COUPLED_STATUSES =
+            List.of(CoupleRoom.CoupleStatus.ACTIVE, CoupleRoom.CoupleStatus.PENDING);
+
+    private final UserRepository userRepository;
+    private final CoupleRoomRepository coupleRoomRepository;
+
+    /**
+     * 사용자의 현재 데이터로 진행 단계를 다시 계산해 엔티티에 반영
+     * 호출 측 트랜잭션의 변경 감지로 저장됨
+     */
+    public JourneyState refresh(User user) {
+        boolean coupled = user.isOnboardingCompleted()
+                && coupleRoomRepository.existsByMemberAndStatusIn(user.getProviderId(), COUPLED_STATUSES);
+        JourneyState journeyState = JourneyState.of(
+                user.isOnboardingCompleted(), coupled, Boolean.TRUE.equals(user.getIsRockCompleted()));
+
+        if (journeyState != user.getJourneyState()) {
+            log.info("사용자 진행 단계 변경 - providerId: {}, {} → {}", user.getProviderId(), user.getJourneyState(), journeyState);
+            user.setJourneyState(journeyState);
+        }
+        return journeyState;
+    }
+
+    /**
+     * providerId로 사용자를 조회해 진행 단계 갱신 (커플룸 변경 시 상대방 갱신용)
+     */
+    @Transactional
+    public void refresh(String providerId) {
+        if (providerId == null) {
+            return;
+        }
+        User user = userRepository.findByProviderId(providerId);
+        if (user == null) {
+            log.warn("진행 단계 갱신 대상 사용자를 찾을 수 없습니다: {}", providerId);
+            return;
+        }
+        refresh(user);
+    }
+
+    /**
+     * 리다이렉트 결정용 진행 단계 조회 (단일 컬럼 조회)
+     * 컬럼 추가 이전에 가입한 사용자는 최초 조회 시 계산해 저장
+     */
+    @Transactional
+    public UserJourneyView resolve(String providerId) {
+        UserJourneyView view = userRepository.findJourneyByProviderId(providerId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + providerId));
+        if (view.journeyState() != null) {
+            return view;
+        }
+
+        User user = userRepository.findByProviderId(providerId);
+        JourneyState journeyState = refresh(user);
+        log.info("사용자 진행 단계 백필 - providerId: {}, journeyState: {}", providerId, journeyState);
+        return new UserJourneyView(user.getUserId(), journeyState, user.getIsRockCompleted());
+    }
+}
@@ -0,0 +1,116 @@
+package PitterPatter.loventure.authService.service;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+
+import PitterPatter.loventure.authService.dto.MyPageCoupleView;
+import PitterPatter.loventure.authService.dto.MyPageVersion;
+import PitterPatter.loventure.authService.dto.response.MyPageResponse;
+import PitterPatter.loventure.authService.mapper.MyPageMapper;
+import PitterPatter.loventure.authService.repository.CoupleRoom;
+import PitterPatter.loventure.authService.repository.CoupleRoomRepository;
+import PitterPatter.loventure.authService.repository.User;
+import PitterPatter.loventure.authService.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마이페이지 조회 서비스
+ * - 사용자 조회와 커플(커플룸 + 파트너 + 티켓) 조회는 서로 독립적이므로 병렬로 실행
+ * - 커플룸, 파트너, 티켓 수는 하나의 조인 쿼리로 조회
+ * - 하위 조회별 소요 시간을 Server-Timing 형식으로 함께 반환
+ * - 조건부 GET을 위해 응답을 구성하는 엔티티들의 버전(updatedAt)을 함께 반환
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MyPageService {
+
+    private final UserRepository userRepository;
+    private final CoupleRoomRepository coupleRoomRepository;
+    private final MyPageMapper myPageMapper;
+    private final Executor queryFanoutExecutor;
+
+    /**
+     * 마이페이지 조회 결과, 응답 버전, 하위 조회별 소요 시간
+     */
+    public record MyPageResult(MyPageResponse response, MyPageVersion version, String serverTiming) {}
+
+    private record Timed<T>(T value, long nanos) {}
+
+    /**
+     * 마이페이지 버전만 조회 (If-None-Match 검증용, 전체 조합 없이 단일 쿼리)
+     */
+    public Optional<MyPageVersion> getMyPageVersion(String providerId) {
+        return userRepository.findMyPageVersionByProviderId(providerId, CoupleRoom.CoupleStatus.ACTIVE);
+    }
+
+    public MyPageResult getMyPage(String providerId) {
+        long startedAt = System.nanoTime();
+
+        // 커플 조회는 별도 스레드에서, 사용자 조회는 요청 스레드에서 동시에 실행
+        CompletableFuture<Timed<Optional<MyPageCoupleView>>> coupleFuture = CompletableFuture.supplyAsync(
+                () -> timed(() -> coupleRoomRepository.findCoupleViewByMemberAndStatus(providerId, CoupleRoom.CoupleStatus.ACTIVE)),
+                queryFanoutExecutor);
+
+        Timed<User> userResult = timed(() -> userRepository.findWithFavoriteFoodsByProviderId(providerId));
+        User user = userResult.value();
+        if (user == null) {
+            coupleFuture.cancel(false);
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + providerId);
+        }
+
+        Timed<Optional<MyPageCoupleView>> coupleResult = coupleFuture.join();
+        Optional<MyPageCoupleView> coupleViewOpt = coupleResult.value();
+
+        Optional<CoupleRoom> coupleRoomOpt = coupleViewOpt.map(MyPageCoupleView::coupleRoom);
+        User partner = coupleViewOpt.map(MyPageCoupleView::partner).orElse(null);
+        Integer ticket = null;
+
+        if (coupleRoomOpt.isPresent()) {
+            CoupleRoom coupleRoom = coupleRoomOpt.get();
+            String partnerProviderId = coupleRoom.getCreatorUserId().equals(providerId)
+                ? coupleRoom.getPartnerUserId()
+                : coupleRoom.getCreatorUserId();
+
+            if (partnerProviderId != null && partner == null) {
+                log.warn("파트너 사용자 정보를 찾을 수 없습니다: {}", partnerProviderId);
+                // 파트너 정보가 없어도 커플룸 정보는 표시
+            }
+
+            // 티켓 수는 커플룸 행에 함께 조회됨 (별도 조회 없음)
+            if (coupleRoom.getCoupleId() != null) {
+                ticket = coupleRoom.getTicketCount() != null ? coupleRoom.getTicketCount() : 2;
+            }
+        }
+
+        MyPageResponse response = myPageMapper.toMyPageResponse(user, coupleRoomOpt, partner, ticket);
+        MyPageVersion version = new MyPageVersion(
+                user.getUpdatedAt(),
+                coupleRoomOpt.map(CoupleRoom::getUpdatedAt).orElse(null),
+                partner != null ? partner.getUpdatedAt() : null);
+        long totalNanos = System.nanoTime() - startedAt;
+
+        log.info("마이페이지 조회 완료 - providerId: {}, user: {}ms, couple: {}ms, total: {}ms",
+                providerId, toMillis(userResult.nanos()), toMillis(coupleResult.nanos()), toMillis(totalNanos));
+
+        String serverTiming = String.format(Locale.ROOT, "user;dur=%.1f, couple;dur=%.1f, total;dur=%.1f",
+                toMillis(userResult.nanos()), toMillis(coupleResult.nanos()), toMillis(totalNanos));
+        return new MyPageResult(response, version, serverTiming);
+    }
+
+    private <T> Timed<T> timed(Supplier<T> supplier) {
+        long startedAt = System.nanoTime();
+        T value = supplier.get();
+        return new Timed<>(value, System.nanoTime() - startedAt);
+    }
+
+    private double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -1,16 +1,20 @@
 package PitterPatter.loventure.authService.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.function.Supplier;
 
 /**
  * Redis 기반 티켓 관리 서비스
  * - 커플의 티켓 정보를 Redis에 캐시
  * - DB와 Redis 동기화
+ * - 명령별 처리 시간은 redis.ticket{command, outcome} 타이머로 기록
  */
 @Slf4j
 @Service
@@ -18,6 +22,7 @@ import java.time.Duration;
 public class RedisTicketService {
     
     private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
     private static final String TICKET_KEY_PREFIX = "couple:ticket:";
     private static final Duration TICKET_CACHE_TTL = Duration.ofHours(24); // 24시간 캐시
     
@@ -27,7 +32,10 @@ public class RedisTicketService {
     public void setTicketCount(String coupleId, int ticketCount) {
         try {
             String key = TICKET_KEY_PREFIX + coupleId;
-            redisTemplate.opsForValue().set(key, ticketCount, TICKET_CACHE_TTL);
+            timed("set", () -> {
+                redisTemplate.opsForValue().set(key, ticketCount, TICKET_CACHE_TTL);
+                return null;
+            });
             log.info("🎟️ Redis에 티켓 정보 저장 - coupleId: {}, ticketCount: {}", coupleId, ticketCount);
         } catch (Exception e) {
             log.error("❌ Redis 티켓 저장 실패 - coupleId: {}, error: {}", coupleId, e.getMessage());
@@ -40,7 +48,7 @@ public class RedisTicketService {
     public Integer getTicketCount(String coupleId) {
         try {
             String key = TICKET_KEY_PREFIX + coupleId;
-            Object ticketCount = redisTemplate.opsForValue().get(key);
+            Object ticketCount = timed("get", () -> redisTemplate.opsForValue().get(key));
             if (ticketCount instanceof Integer) {
                 log.debug("🎟️ Redis에서 티켓 정보 조회 - coupleId: {}, ticketCount: {}", coupleId, ticketCount);
                 return (Integer) ticketCount;
@@ -58,7 +66,7 @@ public class RedisTicketService {
     public boolean consumeTicket(String coupleId) {
         try {
             String key = TICKET_KEY_PREFIX + coupleId;
-            Long result = redisTemplate.opsForValue().decrement(key);
+            Long result = timed("decrement", () -> redisTemplate.opsForValue().decrement(key));
             if (result != null && result >= 0) {
                 log.info("🎟️ Redis에서 티켓 차감 성공 - coupleId: {}, 남은 티켓: {}", coupleId, result);
                 return true;
@@ -78,10 +86,23 @@ public class RedisTicketService {
     public void deleteTicketCount(String coupleId) {
         try {
             String key = TICKET_KEY_PREFIX + coupleId;
-            redisTemplate.delete(key);
+            timed("delete", () -> redisTemplate.delete(key));
             log.info("🗑️ Redis에서 티켓 정보 삭제 - coupleId: {}", coupleId);
         } catch (Exception e) {
             log.error("❌ Redis 티켓 삭제 실패 - coupleId: {}, error: {}", coupleId, e.getMessage());
         }
     }
+
+    // Redis 명령 한 번의 시간 기록 (예외는 outcome=error로 기록 후 그대로 전달)
+    private <T> T timed(String command, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = action.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer("redis.ticket", "command", command, "outcome", outcome));
+        }
+    }
 }
@@ -0,0 +1,275 @@
+package PitterPatter.loventure.authService.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 기기별 Refresh Token 저장소
+ * - 사용자당 해시 하나 (auth:refresh:{providerId}), 기기(deviceId)별 필드
+ * - 필드 값: "토큰 해시:패밀리 ID:만료(epoch초)" (원문 토큰은 저장하지 않음)
+ * - 회전은 Lua 스크립트로 원자적 비교 후 교체 (CAS), 이미 회전된 토큰 재사용 시 해당 기기 폐기
+ * - 회전 직후 짧은 유예 시간 동안은 직전 토큰으로 요청해도 같은 새 토큰을 돌려줌 (동시 갱신, 재시도 대응)
+ *   유예 항목은 기기별 별도 키(auth:refresh-grace:{providerId}:{deviceId})에 "직전 토큰 해시|AES-GCM 암호화한 새 토큰"으로
+ *   유예 시간만큼만 TTL을 두고 저장 (평문 토큰은 Redis에 남기지 않음)
+ * - 발급(로그인) 시 만료된 기기 필드를 정리하고, 기기 수가 상한을 넘으면 만료가 가장 이른(가장 오래 쓰지 않은) 기기부터 제거
+ * - 로그인/갱신 시 users 테이블에 쓰지 않음
+ */
+@Slf4j
+@Service
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "auth:refresh:";
+    private static final String GRACE_KEY_PREFIX = "auth:refresh-grace:";
+    // 이전 버전이 사용자 해시에 남긴 유예 필드 (회전/폐기/정리 시 함께 삭제)
+    private static final String LEGACY_GRACE_FIELD_PREFIX = "grace:";
+    private static final Duration KEY_TTL = Duration.ofDays(14);
+
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_BITS = 128;
+    // 암호화 키를 JWT 서명과 분리하기 위한 용도 라벨
+    private static final byte[] KEY_LABEL = "refresh-token-grace.v1".getBytes(StandardCharsets.UTF_8);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    public enum RotationResult {
+        ROTATED,   // 교체 성공
+        GRACE,     // 방금 회전된 직전 토큰 (유예 시간 내) → 이미 발급된 새 토큰 반환
+        MISSING,   // 해당 기기의 토큰이 없음 (로그아웃, 만료 등)
+        REUSED,    // 이미 회전된 이전 토큰 재사용 → 탈취 가능성, 해당 기기 폐기
+        EXPIRED    // 저장된 토큰 만료
+    }
+
+    // KEYS[1]=해시 키, ARGV[1]=deviceId, ARGV[2]=토큰 값, ARGV[3]=키 TTL(초), ARGV[4]=현재(epoch초), ARGV[5]=최대 기기 수
+    // 반환: 정리된 기기 수 (이전 버전의 해시 내 유예 필드도 함께 삭제, 제거된 기기의 유예 키는 TTL로 만료)
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[4])
+            local entries = redis.call('HGETALL', KEYS[1])
+            local devices = {}
+            local evicted = 0
+            for i = 1, #entries, 2 do
+              local field = entries[i]
+              if string.sub(field, 1, 6) == 'grace:' then
+                redis.call('HDEL', KEYS[1], field)
+              elseif field ~= ARGV[1] then
+                local expiry = tonumber(string.match(entries[i + 1], ':(%d+)$'))
+                if expiry == nil or expiry < now then
+                  redis.call('HDEL', KEYS[1], field)
+                  evicted = evicted + 1
+                else
+                  devices[#devices + 1] = { field, expiry }
+                end
+              end
+            end
+            local excess = #devices + 1 - tonumber(ARGV[5])
+            if excess > 0 then
+              table.sort(devices, function(a, b) return a[2] < b[2] end)
+              for i = 1, excess do
+                redis.call('HDEL', KEYS[1], devices[i][1])
+                evicted = evicted + 1
+              end
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return evicted
+            """, Long.class);
+
+    /**
+     * 회전 결과 (GRACE인 경우 refreshToken은 유예 항목에서 복호화한 새 토큰)
+     */
+    public record Rotation(RotationResult result, String refreshToken) {}
+
+    // KEYS[1]=해시 키, KEYS[2]=유예 키, ARGV[1]=deviceId, ARGV[2]=제시된 토큰 해시, ARGV[3]=새 토큰 값,
+    // ARGV[4]=현재(epoch초), ARGV[5]=키 TTL(초), ARGV[6]=암호화한 새 토큰, ARGV[7]=유예 시간(초)
+    // 반환: 'ROTATED' | 'GRACE|{암호화한 새 토큰}' | 'MISSING' | 'REUSED' | 'EXPIRED'
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local legacyGraceField = 'grace:' .. ARGV[1]
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if not current then
+              return 'MISSING'
+            end
+            local hash, family, expiry = string.match(current, '^([^:]*):([^:]*):(%d+)$')
+            if hash ~= ARGV[2] then
+              local grace = redis.call('GET', KEYS[2])
+              if grace then
+                local prevHash, sealed = string.match(grace, '^([^|]*)|([^|]*)$')
+                if prevHash == ARGV[2] then
+                  return 'GRACE|' .. sealed
+                end
+              end
+              redis.call('HDEL', KEYS[1], ARGV[1], legacyGraceField)
+              redis.call('DEL', KEYS[2])
+              return 'REUSED'
+            end
+            if tonumber(expiry) < tonumber(ARGV[4]) then
+              redis.call('HDEL', KEYS[1], ARGV[1], legacyGraceField)
+              redis.call('DEL', KEYS[2])
+              return 'EXPIRED'
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            redis.call('HDEL', KEYS[1], legacyGraceField)
+            if tonumber(ARGV[7]) > 0 then
+              redis.call('SET', KEYS[2], ARGV[2] .. '|' .. ARGV[6], 'EX', ARGV[7])
+            else
+              redis.call('DEL', KEYS[2])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            return 'ROTATED'
+            """, String.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration gracePeriod;
+    private final int maxDevices;
+    private final SecretKeySpec graceKey;
+
+    public RefreshTokenStore(StringRedisTemplate stringRedisTemplate,
+                             @Value("${auth.refresh.grace-period:30s}") Duration gracePeriod,
+                             @Value("${auth.refresh.max-devices:10}") int maxDevices,
+                             @Value("${auth.refresh.grace-encryption-key:${spring.jwt.secret}}") String graceSecret) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.gracePeriod = gracePeriod;
+        this.maxDevices = maxDevices;
+        this.graceKey = new SecretKeySpec(deriveKey(graceSecret), "AES");
+    }
+
+    /**
+     * 새 기기(로그인)의 Refresh Token 저장
+     * 만료된 기기와 최대 기기 수를 넘는 오래된 기기는 같은 스크립트에서 제거
+     */
+    public void issue(String providerId, String deviceId, String familyId, String refreshToken, Instant expiresAt) {
+        Long evicted = stringRedisTemplate.execute(ISSUE_SCRIPT, List.of(key(providerId)),
+                deviceId, value(refreshToken, familyId, expiresAt), String.valueOf(KEY_TTL.getSeconds()),
+                String.valueOf(Instant.now().getEpochSecond()), String.valueOf(maxDevices));
+        log.debug("Refresh Token 저장 - providerId: {}, deviceId: {}, 정리된 기기: {}", providerId, deviceId, evicted);
+    }
+
+    /**
+     * 제시된 토큰이 현재 저장된 토큰과 같을 때만 새 토큰으로 교체 (원자적)
+     * 유예 시간 내 직전 토큰이면 교체 없이 이미 발급된 새 토큰을 반환
+     */
+    public Rotation rotate(String providerId, String deviceId, String familyId,
+                           String presentedToken, String newToken, Instant newExpiresAt) {
+        String graceKeyName = graceKey(providerId, deviceId);
+        String result = stringRedisTemplate.execute(ROTATE_SCRIPT, List.of(key(providerId), graceKeyName),
+                deviceId, hash(presentedToken), value(newToken, familyId, newExpiresAt),
+                String.valueOf(Instant.now().getEpochSecond()), String.valueOf(KEY_TTL.getSeconds()),
+                seal(graceKeyName, newToken), String.valueOf(gracePeriod.getSeconds()));
+        if (result == null) {
+            return new Rotation(RotationResult.MISSING, null);
+        }
+        if (result.startsWith("GRACE|")) {
+            String graceToken = open(graceKeyName, result.substring("GRACE|".length()));
+            if (graceToken == null) {
+                log.warn("유예 항목 복호화 실패 - providerId: {}, deviceId: {}", providerId, deviceId);
+                return new Rotation(RotationResult.MISSING, null);
+            }
+            return new Rotation(RotationResult.GRACE, graceToken);
+        }
+        RotationResult rotationResult = RotationResult.valueOf(result);
+        return new Rotation(rotationResult, rotationResult == RotationResult.ROTATED ? newToken : null);
+    }
+
+    /**
+     * 한 기기의 Refresh Token 폐기 (로그아웃)
+     */
+    public void revoke(String providerId, String deviceId) {
+        stringRedisTemplate.opsForHash().delete(key(providerId), deviceId, LEGACY_GRACE_FIELD_PREFIX + deviceId);
+        stringRedisTemplate.delete(graceKey(providerId, deviceId));
+        log.debug("Refresh Token 폐기 - providerId: {}, deviceId: {}", providerId, deviceId);
+    }
+
+    /**
+     * 사용자의 모든 기기 Refresh Token 폐기
+     * 유예 키는 남아도 기기 필드가 없으면 MISSING으로 처리되고, 유예 시간 뒤 만료됨
+     */
+    public void revokeAll(String providerId) {
+        stringRedisTemplate.delete(key(providerId));
+        log.debug("모든 기기 Refresh Token 폐기 - providerId: {}", providerId);
+    }
+
+    private static String key(String providerId) {
+        return KEY_PREFIX + providerId;
+    }
+
+    private static String graceKey(String providerId, String deviceId) {
+        return GRACE_KEY_PREFIX + providerId + ":" + deviceId;
+    }
+
+    // 새 토큰을 AES-GCM으로 암호화 (유예 키 이름을 AAD로 묶어 다른 기기 항목으로 옮겨도 복호화되지 않음)
+    private String seal(String graceKeyName, String token) {
+        try {
+            byte[] iv = new byte[GCM_IV_LENGTH];
+            RANDOM.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, graceKey, new GCMParameterSpec(GCM_TAG_BITS, iv));
+            cipher.updateAAD(graceKeyName.getBytes(StandardCharsets.UTF_8));
+            byte[] encrypted = cipher.doFinal(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("유예 토큰 암호화 실패", e);
+        }
+    }
+
+    // 복호화 실패(키 변경, 위변조 등) 시 null
+    private String open(String graceKeyName, String sealed) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(sealed);
+            if (bytes.length <= GCM_IV_LENGTH) {
+                return null;
+            }
+            Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, graceKey, new GCMParameterSpec(GCM_TAG_BITS, bytes, 0, GCM_IV_LENGTH));
+            cipher.updateAAD(graceKeyName.getBytes(StandardCharsets.UTF_8));
+            byte[] token = cipher.doFinal(bytes, GCM_IV_LENGTH, bytes.length - GCM_IV_LENGTH);
+            return new String(token, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // 설정된 비밀값에서 용도 라벨로 256비트 AES 키 도출
+    private static byte[] deriveKey(String secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(KEY_LABEL);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("유예 토큰 암호화 키 생성 실패", e);
+        }
+    }
+
+    private static String value(String refreshToken, String familyId, Instant expiresAt) {
+        return hash(refreshToken) + ":" + familyId + ":" + expiresAt.getEpochSecond();
+    }
+
+    // 토큰 원문 대신 SHA-256 해시(Base64URL)만 저장
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -8,9 +8,12 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 import PitterPatter.loventure.authService.dto.request.RockCompletionAckRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,14 +23,18 @@ import lombok.extern.slf4j.Slf4j;
 public class TerritoryServiceClient {
     
     private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
     
     @Value("${territory.service.url:http://territory-service:8083}")
     private String territoryServiceUrl;
     
     /**
      * Territory-service로 rock 완료 ACK 전송
+     * 호출 시간은 territory.client{operation, outcome} 타이머로 기록 (outcome: 2xx=success, 그 외 상태 코드 계열, 예외=error)
      */
     public void sendRockCompletionAck(String coupleId, String userId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
             RockCompletionAckRequest request = new RockCompletionAckRequest(coupleId, userId, LocalDateTime.now());
             
@@ -39,6 +46,7 @@ public class TerritoryServiceClient {
             String url = territoryServiceUrl + "/internal/api/regions/verify/ack";
             
             ResponseEntity<String> response = restTemplate.postForEntity(url, entity, String.class);
+            outcome = response.getStatusCode().is2xxSuccessful() ? "success" : response.getStatusCode().value() / 100 + "xx";
             
             if (response.getStatusCode().is2xxSuccessful()) {
                 log.info("Territory-service ACK 전송 성공 - coupleId: {}, userId: {}", coupleId, userId);
@@ -48,9 +56,14 @@ public class TerritoryServiceClient {
             }
             
         } catch (Exception e) {
+            if (e instanceof HttpStatusCodeException statusException) {
+                outcome = statusException.getStatusCode().value() / 100 + "xx";
+            }
             log.error("Territory-service ACK 전송 중 오류 발생 - coupleId: {}, userId: {}, error: {}", 
                     coupleId, userId, e.getMessage(), e);
             throw new RuntimeException("Territory-service ACK 전송 실패", e);
+        } finally {
+            sample.stop(meterRegistry.timer("territory.client", "operation", "rock-completion-ack", "outcome", outcome));
         }
     }
 }
@@ -1,17 +1,32 @@
 package PitterPatter.loventure.authService.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import PitterPatter.loventure.authService.dto.UserChangeCursor;
 import PitterPatter.loventure.authService.dto.UserDto;
 import PitterPatter.loventure.authService.dto.request.OnboardingRequest;
+import PitterPatter.loventure.authService.dto.response.UserChangeFeedResponse;
+import PitterPatter.loventure.authService.dto.response.UserChangeResponse;
+import PitterPatter.loventure.authService.dto.response.UserInfoResponse;
 import PitterPatter.loventure.authService.exception.BusinessException;
 import PitterPatter.loventure.authService.exception.ErrorCode;
 import PitterPatter.loventure.authService.mapper.UserMapper;
 import PitterPatter.loventure.authService.repository.User;
 import PitterPatter.loventure.authService.repository.UserRepository;
 import PitterPatter.loventure.authService.security.JWTUtil;
+import PitterPatter.loventure.authService.security.TokenEpochService;
+import PitterPatter.loventure.authService.security.TokenRevocationList;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +39,14 @@ public class UserService {
     private final UserRepository userRepository;
     private final JWTUtil jwtUtil;
     private final UserMapper userMapper;
+    private final JourneyStateService journeyStateService;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenEpochService tokenEpochService;
+    private final RefreshTokenStore refreshTokenStore;
+
+    // updatedAt은 커밋 전에 애플리케이션이 채우므로, 최대 트랜잭션 시간보다 길게 잡아야 늦게 커밋된 변경을 놓치지 않음
+    @Value("${internal.user.changes.safety-lag:30s}")
+    private Duration changesSafetyLag;
 
     @Transactional
     public UserDto updateOnboardingInfo(String providerId, OnboardingRequest request) {
@@ -43,6 +66,7 @@ public class UserService {
                 request.getDateCostPreference(),
                 request.getPreferredAtmosphere()
         );
+        journeyStateService.refresh(user);
 
         // 업데이트된 사용자 정보를 DTO로 변환하여 반환
         return UserDto.from(user);
@@ -63,12 +87,7 @@ public class UserService {
      * 사용자의 온보딩 완료 여부 확인
      */
     public boolean isOnboardingCompleted(User user) {
-        return user.getAlcoholPreference() != null &&
-               user.getActiveBound() != null &&
-               user.getFavoriteFoodCategories() != null &&
-               !user.getFavoriteFoodCategories().isEmpty() &&
-               user.getDateCostPreference() != null &&
-               user.getPreferredAtmosphere() != null;
+        return user.isOnboardingCompleted();
     }
 
     /**
@@ -115,6 +134,51 @@ public class UserService {
     }
     
     
+    /**
+     * userId 목록으로 사용자 정보 일괄 조회 (단일 IN 쿼리)
+     * 존재하지 않는 userId는 결과 Map에 포함되지 않음
+     */
+    public Map<String, UserInfoResponse> getUserInfosByIds(Collection<String> userIds) {
+        Map<String, UserInfoResponse> userInfos = new HashMap<>();
+        for (UserInfoResponse userInfo : userRepository.findUserInfosByUserIdIn(userIds)) {
+            userInfos.put(userInfo.userId(), userInfo);
+        }
+        return userInfos;
+    }
+
+    /**
+     * 커서 이후에 변경된 사용자 목록 조회 (키셋 페이지네이션)
+     * limit + 1건을 조회해 다음 페이지 존재 여부를 판단
+     * 현재 시각 - safety-lag 이후의 변경은 아직 커밋 전인 트랜잭션이 있을 수 있으므로 다음 폴링으로 미룸
+     *
+     * @param cursor 이전 응답의 nextCursor (null이면 처음부터)
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public UserChangeFeedResponse getUserChanges(String cursor, int limit) {
+        PageRequest page = PageRequest.of(0, limit + 1);
+        LocalDateTime until = LocalDateTime.now().minus(changesSafetyLag);
+        List<UserChangeResponse> changes;
+        if (cursor == null || cursor.isBlank()) {
+            changes = userRepository.findChanges(until, page);
+        } else {
+            UserChangeCursor after = UserChangeCursor.decode(cursor);
+            changes = userRepository.findChangesAfter(after.updatedAt(), after.userId(), until, page);
+        }
+
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+
+        // 변경이 없으면 같은 커서로 다시 폴링하도록 요청 커서를 그대로 반환
+        String nextCursor = cursor;
+        if (!changes.isEmpty()) {
+            UserChangeResponse last = changes.get(changes.size() - 1);
+            nextCursor = new UserChangeCursor(last.updatedAt(), last.userId()).encode();
+        }
+        return new UserChangeFeedResponse(changes, nextCursor, hasMore);
+    }
+
     /**
      * userId로 사용자 조회 (String)
      */
@@ -131,6 +195,11 @@ public class UserService {
     public void deleteUser(User user) {
         user.setStatus(PitterPatter.loventure.authService.repository.AccountStatus.DEACTIVATED);
         userRepository.save(user);
+
+        // 이미 발급된 Access Token과 모든 기기의 Refresh Token 무효화
+        tokenEpochService.bump(user.getProviderId());
+        tokenRevocationList.revokeAllForUser(user.getProviderId()); // epoch 클레임이 없는 기존 토큰용
+        refreshTokenStore.revokeAll(user.getProviderId());
     }
     
     /**
@@ -147,6 +216,14 @@ public class UserService {
         if (request.name() != null) {
             user.updateUserInfo(user.getEmail(), request.name());
         }
+
+        // 선호 음식 컬렉션은 MapStruct가 clear/addAll로 갱신하므로 updatedAt 갱신을 명시
+        if (request.favoriteFoodCategories() != null) {
+            user.markUpdated();
+        }
+
+        // 선호도 정보 변경으로 온보딩 완료 여부가 달라질 수 있음
+        journeyStateService.refresh(user);
         
         return userRepository.save(user);
     }